@@ -0,0 +1,147 @@
+package com.cts.mmt.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner - Runs the framework benchmarks and saves or compares a baseline
+ * Usage: BenchmarkRunner &lt;baseline|compare&gt; &lt;include regex&gt; &lt;baseline file&gt; &lt;threshold %&gt;
+ *
+ * "baseline" writes the scores to the baseline file. "compare" prints each benchmark's change
+ * against it, writes the table as Markdown to target/jmh/compare.md for PR descriptions, and
+ * exits with status 1 when a benchmark got slower by more than the threshold beyond its error
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "jmh");
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String mode = args.length > 0 ? args[0] : "compare";
+        String include = args.length > 1 ? args[1] : ".*";
+        Path baselineFile = Paths.get(args.length > 2 ? args[2] : "benchmarks/baseline.tsv");
+        double threshold = args.length > 3 ? Double.parseDouble(args[3]) : 10;
+
+        Options options = new OptionsBuilder()
+                .include(BenchmarkRunner.class.getPackageName() + "\\..*" + include)
+                .build();
+        Map<String, Score> current = toScores(new Runner(options).run());
+        Files.createDirectories(OUTPUT_DIR);
+        write(current, OUTPUT_DIR.resolve("current.tsv"));
+
+        if ("baseline".equalsIgnoreCase(mode)) {
+            write(current, baselineFile);
+            System.out.println("Saved baseline of " + current.size() + " benchmarks to " + baselineFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.out.println("No baseline at " + baselineFile + " - run with jmh.mode=baseline first");
+            return;
+        }
+        if (compare(read(baselineFile), current, threshold)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Print and save the comparison table
+     * @return true if any benchmark regressed
+     */
+    private static boolean compare(Map<String, Score> baseline, Map<String, Score> current, double threshold)
+            throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("| Benchmark | Baseline | Current | Change | |");
+        lines.add("|---|---:|---:|---:|---|");
+        boolean regressed = false;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null || !before.unit().equals(now.unit())) {
+                lines.add(String.format("| %s | - | %s | new | |", entry.getKey(), now));
+                continue;
+            }
+            double change = (now.score() - before.score()) / before.score() * 100;
+            // Only a change larger than both the threshold and the combined error counts
+            boolean outsideError = Math.abs(now.score() - before.score()) > now.error() + before.error();
+            String verdict = "";
+            if (outsideError && change > threshold) {
+                verdict = "REGRESSED";
+                regressed = true;
+            } else if (outsideError && change < -threshold) {
+                verdict = "improved";
+            }
+            lines.add(String.format("| %s | %s | %s | %+.1f%% | %s |", entry.getKey(), before, now, change, verdict));
+        }
+        lines.forEach(System.out::println);
+        Files.write(OUTPUT_DIR.resolve("compare.md"), lines, StandardCharsets.UTF_8);
+        return regressed;
+    }
+
+    private static Map<String, Score> toScores(Collection<RunResult> results) {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (RunResult result : results) {
+            Result<?> primary = result.getPrimaryResult();
+            String name = result.getParams().getBenchmark();
+            name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+            scores.put(name, new Score(primary.getScore(), primary.getScoreError(), primary.getScoreUnit()));
+        }
+        return scores;
+    }
+
+    private static void write(Map<String, Score> scores, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : scores.entrySet()) {
+            Score score = entry.getValue();
+            lines.add(entry.getKey() + "\t" + score.score() + "\t" + score.error() + "\t" + score.unit());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] parts = line.split("\t");
+            if (parts.length == 4) {
+                double error = Double.parseDouble(parts[2]);
+                scores.put(parts[0], new Score(Double.parseDouble(parts[1]), Double.isNaN(error) ? 0 : error, parts[3]));
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Average time per operation with its 99.9% error margin
+     */
+    private record Score(double score, double error, String unit) {
+        @Override
+        public String toString() {
+            return String.format("%.2f ± %.2f %s", score, error, unit);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.cts.mmt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cts.mmt.utils.ConfigReader;
+
+/**
+ * ConfigReaderBenchmark - Cost of configuration lookups made on every page action
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public int typedGetter() {
+        return ConfigReader.getInstance().getExplicitWait();
+    }
+
+    @Benchmark
+    public String rawProperty() {
+        return ConfigReader.getInstance().getProperty("url");
+    }
+}
@@ -0,0 +1,69 @@
+package com.cts.mmt.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import com.cts.mmt.utils.LocatorEngine;
+
+/**
+ * LocatorEngineBenchmark - Overhead of LocatorEngine lookups over a plain findElement
+ * The stub driver has no element for By.id("gone"), so the fallback cases show the cost of
+ * a missed preferred locator once the winner cache has learned the working one
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocatorEngineBenchmark {
+
+    private static final By GONE = By.id("gone");
+    private static final By PRIMARY = By.id("primary");
+    private static final By FALLBACK = By.xpath("//div[@class='fallback']");
+
+    private final StubWebDriver driver = new StubWebDriver(GONE::equals);
+    private final List<By> single = List.of(PRIMARY);
+    private final List<By> preferredWorks = List.of(PRIMARY, FALLBACK);
+    private final List<By> preferredGone = List.of(GONE, FALLBACK);
+
+    @Benchmark
+    public WebElement plainFindElement() {
+        return driver.findElement(PRIMARY);
+    }
+
+    @Benchmark
+    public WebElement singleStrategy() {
+        return LocatorEngine.find(driver, "Benchmark.single", single);
+    }
+
+    @Benchmark
+    public WebElement preferredStrategy() {
+        return LocatorEngine.find(driver, "Benchmark.preferred", preferredWorks);
+    }
+
+    @Benchmark
+    public WebElement learnedFallback() {
+        return LocatorEngine.find(driver, "Benchmark.fallback", preferredGone);
+    }
+
+    @Benchmark
+    public List<WebElement> findAllLearnedFallback() {
+        return LocatorEngine.findAll(driver, "Benchmark.fallbackAll", preferredGone);
+    }
+}
@@ -0,0 +1,95 @@
+package com.cts.mmt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.cts.mmt.base.BaseTest;
+import com.cts.mmt.utils.ExtentManager;
+import com.cts.mmt.utils.TestLogBridge;
+
+/**
+ * LoggingBenchmark - Throughput of the report and log calls made by every test step
+ * A fresh report entry is used per iteration so log growth does not skew later iterations.
+ * The BaseTest calls measure what the test thread pays; the lines are written by the
+ * TestLogBridge thread and flushed at the end of each iteration
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggingBenchmark {
+
+    private final BenchmarkTest baseTest = new BenchmarkTest();
+    private ExtentTest extentTest;
+
+    @Setup(Level.Iteration)
+    public void createReportEntry() {
+        extentTest = ExtentManager.createTest("LoggingBenchmark", "Framework logging overhead");
+        baseTest.bind(extentTest);
+    }
+
+    @TearDown(Level.Iteration)
+    public void completeReportEntry() {
+        TestLogBridge.flush();
+        ExtentManager.completeTest(extentTest);
+        baseTest.unbind();
+    }
+
+    @Benchmark
+    public void extentLog() {
+        ExtentManager.log(extentTest, Status.INFO, "Entered from city: Delhi");
+    }
+
+    @Benchmark
+    public void baseTestLogInfo() {
+        baseTest.logInfo("Entered from city: Delhi");
+    }
+
+    @Benchmark
+    public void baseTestLogInfoParameterized() {
+        baseTest.logInfo("Entered {} city: {}", "from", "Delhi");
+    }
+
+    /**
+     * Exposes the protected BaseTest logging helpers without running a TestNG lifecycle
+     */
+    private static final class BenchmarkTest extends BaseTest {
+
+        private void bind(ExtentTest extentTest) {
+            test.set(extentTest);
+        }
+
+        private void unbind() {
+            test.remove();
+        }
+
+        @Override
+        protected void logInfo(String message) {
+            super.logInfo(message);
+        }
+
+        @Override
+        protected void logInfo(String format, Object... args) {
+            super.logInfo(format, args);
+        }
+    }
+}
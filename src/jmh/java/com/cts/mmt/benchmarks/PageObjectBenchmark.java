@@ -0,0 +1,83 @@
+package com.cts.mmt.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import com.cts.mmt.pages.CabsPage;
+import com.cts.mmt.pages.HomePage;
+import com.cts.mmt.pages.HotelsPage;
+import com.cts.mmt.utils.LocatorEngine;
+
+/**
+ * PageObjectBenchmark - Cost of building page objects and resolving their locators
+ * Covers PageFactory.initElements (through the page constructors), turning @FindBy and
+ * @FallbackLocators annotations into LocatorEngine strategies, and a lookup through a PageFactory element proxy
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageObjectBenchmark {
+
+    private final StubWebDriver driver = new StubWebDriver();
+    private Field[] homePageFields;
+    private WebElement proxiedElement;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        homePageFields = HomePage.class.getDeclaredFields();
+        Field closePopupButton = HomePage.class.getDeclaredField("closePopupButton");
+        closePopupButton.setAccessible(true);
+        proxiedElement = (WebElement) closePopupButton.get(new HomePage(driver));
+    }
+
+    @Benchmark
+    public HomePage initHomePage() {
+        return new HomePage(driver);
+    }
+
+    @Benchmark
+    public HotelsPage initHotelsPage() {
+        return new HotelsPage(driver);
+    }
+
+    @Benchmark
+    public CabsPage initCabsPage() {
+        return new CabsPage(driver);
+    }
+
+    @Benchmark
+    public void resolveHomePageLocators(Blackhole blackhole) {
+        for (Field field : homePageFields) {
+            if (WebElement.class.isAssignableFrom(field.getType())) {
+                List<By> strategies = LocatorEngine.strategiesOf(field);
+                blackhole.consume(strategies);
+            }
+        }
+    }
+
+    @Benchmark
+    public String lookupThroughProxy() {
+        return proxiedElement.getText();
+    }
+}
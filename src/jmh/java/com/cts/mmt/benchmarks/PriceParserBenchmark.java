@@ -0,0 +1,49 @@
+package com.cts.mmt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cts.mmt.utils.PriceParser;
+
+/**
+ * PriceParserBenchmark - Cost of parsing displayed fares, against the regex and replaceAll approach it replaces
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceParserBenchmark {
+
+    private static final Pattern AMOUNT = Pattern.compile("[0-9][0-9,]*(\\.[0-9]+)?");
+
+    // Not final, or the JIT could fold the parse of a constant
+    private String fare = "₹ 13,999 ₹ 12,499";
+    private String originalFare = "₹ 13,999";
+
+    @Benchmark
+    public PriceParser.Price singlePass() {
+        return PriceParser.parse(fare, originalFare);
+    }
+
+    @Benchmark
+    public long regex() {
+        Matcher matcher = AMOUNT.matcher(fare.replace(originalFare, ""));
+        return matcher.find() ? Math.round(Double.parseDouble(matcher.group().replaceAll(",", "")) * 100) : -1;
+    }
+}
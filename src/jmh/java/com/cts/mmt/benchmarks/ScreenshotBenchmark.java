@@ -0,0 +1,48 @@
+package com.cts.mmt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cts.mmt.utils.ScreenshotUtil;
+
+/**
+ * ScreenshotBenchmark - Framework-side cost of taking a screenshot
+ * The stub returns a pre-encoded PNG, so only conversion and naming are measured
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScreenshotBenchmark {
+
+    private final StubWebDriver driver = new StubWebDriver();
+
+    @Benchmark
+    public String captureAsBase64() {
+        return ScreenshotUtil.captureScreenshotAsBase64(driver);
+    }
+
+    @Benchmark
+    public byte[] captureBytes() {
+        return ScreenshotUtil.captureScreenshotBytes(driver);
+    }
+
+    @Benchmark
+    public String buildFileName() {
+        return ScreenshotUtil.buildFileName("testExtractAdultPersonNumbers_FAILED");
+    }
+}
@@ -0,0 +1,341 @@
+package com.cts.mmt.benchmarks;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.logging.Logs;
+
+/**
+ * StubWebDriver - In-process WebDriver that answers every command without a browser
+ * Lets the benchmarks measure framework overhead alone: every lookup returns the same
+ * element, scripts return "ready", and screenshots are a pre-encoded 1366x768 PNG.
+ * Locators can be marked absent to exercise fallbacks; timeouts are accepted and ignored
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot, Interactive {
+
+    private static final byte[] SCREENSHOT = renderScreenshot();
+
+    private final StubWebElement element = new StubWebElement();
+    private final List<WebElement> elements = List.of(element, element, element);
+    private final Predicate<By> absent;
+    private final StubOptions options = new StubOptions();
+
+    /**
+     * Stub on which every locator matches
+     */
+    public StubWebDriver() {
+        this(by -> false);
+    }
+
+    /**
+     * Stub on which some locators match nothing
+     * @param absent Locators that find no element
+     */
+    public StubWebDriver(Predicate<By> absent) {
+        this.absent = absent;
+    }
+
+    @Override
+    public void get(String url) {
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "https://www.makemytrip.com/";
+    }
+
+    @Override
+    public String getTitle() {
+        return "MakeMyTrip";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return absent.test(by) ? List.of() : elements;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        if (absent.test(by)) {
+            throw new NoSuchElementException("Stub has no " + by);
+        }
+        return element;
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate");
+    }
+
+    @Override
+    public Options manage() {
+        return options;
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return Map.of("pending", -1L, "element", element);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return null;
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return target.convertFromPngBytes(SCREENSHOT);
+    }
+
+    @Override
+    public void perform(Collection<Sequence> actions) {
+    }
+
+    @Override
+    public void resetInputState() {
+    }
+
+    private static byte[] renderScreenshot() {
+        BufferedImage image = new BufferedImage(1366, 768, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.WHITE, 1366, 768, new Color(0, 140, 255)));
+        graphics.fillRect(0, 0, 1366, 768);
+        graphics.setColor(Color.DARK_GRAY);
+        for (int y = 40; y < 768; y += 24) {
+            graphics.drawString("MakeMyTrip benchmark screenshot line " + y, 40, y);
+        }
+        graphics.dispose();
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Options whose timeouts are accepted and ignored
+     */
+    private static final class StubOptions implements Options, Timeouts {
+
+        @Override
+        public void addCookie(Cookie cookie) {
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+        }
+
+        @Override
+        public void deleteAllCookies() {
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            return Set.of();
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            return null;
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return this;
+        }
+
+        @Override
+        public Window window() {
+            throw new UnsupportedOperationException("window");
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedOperationException("logs");
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            return this;
+        }
+    }
+
+    /**
+     * Element that is always present, visible and enabled
+     */
+    private static final class StubWebElement implements WebElement {
+
+        @Override
+        public void click() {
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public String getTagName() {
+            return "div";
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return "";
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public String getText() {
+            return "1";
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return Collections.singletonList(this);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return this;
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return true;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(100, 20);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(getLocation(), getSize());
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            return target.convertFromPngBytes(SCREENSHOT);
+        }
+    }
+}
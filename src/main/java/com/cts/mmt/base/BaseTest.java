@@ -1,10 +1,18 @@
 package com.cts.mmt.base;
 
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiPredicate;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -12,27 +20,42 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
+import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
-import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.Status;
+import com.cts.mmt.utils.AdaptiveTimeouts;
+import com.cts.mmt.utils.BlockingProfile;
+import com.cts.mmt.utils.CommandProfiler;
+import com.cts.mmt.utils.CompositeWait;
 import com.cts.mmt.utils.ConfigReader;
 import com.cts.mmt.utils.ExtentManager;
+import com.cts.mmt.utils.FixtureServer;
+import com.cts.mmt.utils.HttpCache;
+import com.cts.mmt.utils.LocatorEngine;
+import com.cts.mmt.utils.NetworkInterception;
+import com.cts.mmt.utils.NetworkSession;
+import com.cts.mmt.utils.RequestBlocker;
+import com.cts.mmt.utils.ScreenshotPipeline;
+import com.cts.mmt.utils.ScreenshotStore;
 import com.cts.mmt.utils.ScreenshotUtil;
+import com.cts.mmt.utils.StepMetrics;
+import com.cts.mmt.utils.TestLogBridge;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
 
 /**
  * BaseTest - Base class for all test classes
  * Handles WebDriver setup/teardown and Extent Reports integration
- * Uses single browser window for entire test suite
+ * Each test leases a pre-warmed browser session from a shared DriverPool and keeps it
+ * confined to its thread, so the suite can run with TestNG parallel="methods", "classes" or "tests"
  * 
  * @author CTS Automation Team
  * @version 1.0
@@ -40,9 +63,27 @@ import io.github.bonigarcia.wdm.WebDriverManager;
 public class BaseTest {
 
     private static final Logger logger = LogManager.getLogger(BaseTest.class);
-    
-    // Static WebDriver - single instance for all tests
-    protected static WebDriver driver;
+
+    // Context name used when a driver is requested outside a TestNG <test>
+    private static final String DEFAULT_CONTEXT = "default";
+
+    // Shared pool of pre-warmed browser sessions
+    private static volatile DriverPool driverPool;
+
+    // Thread-confined lease - the browser session used by the test running on this thread
+    private static final ThreadLocal<DriverPool.Lease> lease = new ThreadLocal<>();
+
+    // <test> context the current thread is executing in
+    private static final ThreadLocal<String> currentContext = new ThreadLocal<>();
+
+    // Outstanding leases grouped by <test> context, returned when that context finishes
+    private static final Map<String, Queue<DriverPool.Lease>> contextLeases = new ConcurrentHashMap<>();
+
+    // Embedded server for the hand-written fixture pages, null when running against the live site
+    private static volatile FixtureServer fixtureServer;
+
+    // Browsers whose driver binaries have already been resolved by WebDriverManager
+    private static final Map<String, Boolean> preparedBrowsers = new ConcurrentHashMap<>();
     
     // Extent Reports instances
     protected static ExtentReports extent;
@@ -52,57 +93,344 @@ public class BaseTest {
     protected ConfigReader config;
 
     /**
-     * Suite setup - Initialize Extent Reports and WebDriver (single browser for all tests)
+     * Suite setup - Initialize Extent Reports and start warming up the driver pool
      */
     @BeforeSuite(alwaysRun = true)
     public void beforeSuite() {
-        
+        config = ConfigReader.getInstance();
+        extent = ExtentManager.getInstance();
+        ScreenshotUtil.cleanScreenshotDirectory();
+        if (config.isFixturesEnabled() && fixtureServer == null) {
+            fixtureServer = FixtureServer.start(Paths.get(config.getFixturesDir()), config.getFixturesPort(),
+                    config.getDriverPoolSize() * 2);
+        }
+        getDriverPool();
+        logger.info("========== Test Suite Started ==========");
     }
 
     /**
-     * Method setup - Do NOT navigate, just initialize config if needed
+     * Get the shared driver pool, creating and warming it up on first use
+     * @return DriverPool instance
+     */
+    private static DriverPool getDriverPool() {
+        if (driverPool == null) {
+            synchronized (BaseTest.class) {
+                if (driverPool == null) {
+                    ConfigReader cfg = ConfigReader.getInstance();
+                    BiPredicate<WebDriver, String> sessionReset = "relaunch".equalsIgnoreCase(cfg.getSessionResetMode())
+                            ? (webDriver, primaryWindow) -> false
+                            : SessionResetter::reset;
+                    DriverPool pool = new DriverPool(() -> initializeDriver(cfg.getBrowser()), sessionReset,
+                            cfg.getDriverPoolSize(),
+                            cfg.getDriverPoolWarmUp(),
+                            Duration.ofMinutes(cfg.getDriverMaxAgeMinutes()),
+                            cfg.getDriverMaxUses(),
+                            Duration.ofSeconds(cfg.getDriverPoolLeaseTimeout()));
+                    pool.warmUp();
+                    driverPool = pool;
+                }
+            }
+        }
+        return driverPool;
+    }
+
+    /**
+     * Method setup - Do NOT navigate, just initialize config and bind the thread to its test context
+     * @param context TestNG test context of the running method
      */
     @BeforeMethod(alwaysRun = true)
-    public void setUp() {
-        
+    public void setUp(ITestContext context) {
+        config = ConfigReader.getInstance();
+        currentContext.set(context.getName());
+        CommandProfiler.start();
+        StepMetrics.startTest();
     }
 
     /**
      * Initialize WebDriver based on browser type
      * @param browser Browser name (chrome/firefox/edge)
+     * @return New WebDriver instance
      */
-    private void initializeDriver(String browser) {
-        
+    private static WebDriver initializeDriver(String browser) {
+        ConfigReader config = ConfigReader.getInstance();
+        String browserName = browser == null ? "chrome" : browser.toLowerCase();
+        prepareDriverBinary(browserName);
+
+        WebDriver webDriver;
+        switch (browserName) {
+            case "firefox":
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                if (config.isHeadless()) {
+                    firefoxOptions.addArguments("-headless");
+                }
+                webDriver = new FirefoxDriver(firefoxOptions);
+                break;
+            case "edge":
+                EdgeOptions edgeOptions = new EdgeOptions();
+                if (config.isHeadless()) {
+                    edgeOptions.addArguments("--headless=new");
+                }
+                edgeOptions.addArguments("--disable-notifications");
+                webDriver = new EdgeDriver(edgeOptions);
+                break;
+            case "chrome":
+            default:
+                ChromeOptions chromeOptions = new ChromeOptions();
+                if (config.isHeadless()) {
+                    chromeOptions.addArguments("--headless=new");
+                }
+                chromeOptions.addArguments("--disable-notifications");
+                chromeOptions.addArguments("--remote-allow-origins=*");
+                webDriver = new ChromeDriver(chromeOptions);
+                break;
+        }
+
+        webDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
+        webDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
+        webDriver.manage().window().maximize();
+        logger.info("WebDriver initialized: " + browserName + " on thread " + Thread.currentThread().getName());
+        WebDriver driver = config.isDriverProfilingEnabled() ? CommandProfiler.decorate(webDriver) : webDriver;
+        NetworkInterception.attach(driver);
+        return driver;
     }
 
     /**
-     * Method teardown - Quit WebDriver and update report after each test
+     * Resolve the driver binary once per browser, even when many threads start browsers together
+     * @param browserName Browser name (chrome/firefox/edge)
+     */
+    private static void prepareDriverBinary(String browserName) {
+        preparedBrowsers.computeIfAbsent(browserName, name -> {
+            switch (name) {
+                case "firefox":
+                    WebDriverManager.firefoxdriver().setup();
+                    break;
+                case "edge":
+                    WebDriverManager.edgedriver().setup();
+                    break;
+                default:
+                    WebDriverManager.chromedriver().setup();
+                    break;
+            }
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * Method teardown - Update report and return the browser session to the pool after each test
      * @param result TestNG test result
      */
     @AfterMethod(alwaysRun = true)
     public void tearDown(ITestResult result) {
         ExtentTest extentTest = test.get();
+        DriverPool.Lease currentLease = lease.get();
+        // The test's queued log lines go to the report before the summary lines below
+        TestLogBridge.flush();
+        checkCommandBudget(result, CommandProfiler.stop(), extentTest);
+        // Picked up by RunHistoryListener, whose result callbacks run after this method
+        result.setAttribute(RunHistoryListener.STEP_TIMINGS, StepMetrics.stopTest());
+        if (currentLease != null) {
+            result.setAttribute(RunHistoryListener.DRIVER_START, currentLease.getWaitMillis());
+        }
+        if (extentTest != null) {
+            if (currentLease != null) {
+                ExtentManager.log(extentTest, Status.INFO, "Driver pool wait: " + currentLease.getWaitMillis() + " ms");
+                logNetworkSummary(currentLease.getDriver(), extentTest);
+            }
+            if (result.getStatus() == ITestResult.FAILURE) {
+                ExtentManager.log(extentTest, Status.FAIL, "Test Failed: " + result.getThrowable());
+                WebDriver current = currentLease != null ? currentLease.getDriver() : null;
+                // Only grab the bytes here - encoding and attaching happen in the background
+                byte[] screenshot = ScreenshotUtil.captureScreenshotBytes(current);
+                ScreenshotPipeline.submit(screenshot, result.getName() + "_FAILED", System.currentTimeMillis(), extentTest);
+            } else if (result.getStatus() == ITestResult.SUCCESS) {
+                ExtentManager.log(extentTest, Status.PASS, "Test Passed");
+            } else if (result.wasRetried()) {
+                ExtentManager.log(extentTest, Status.WARNING, "Retrying after transient "
+                        + result.getAttribute(TransientRetryAnalyzer.RETRIED_FOR) + ": " + result.getThrowable());
+            } else if (result.getStatus() == ITestResult.SKIP) {
+                ExtentManager.log(extentTest, Status.SKIP, "Test Skipped: " + result.getThrowable());
+            }
+            ExtentManager.completeTest(extentTest);
+        }
+        if (result.getStatus() == ITestResult.FAILURE && Quarantine.isQuarantined(result) && !config.isQuarantineFailBuild()) {
+            // Reported above; kept out of the build result and recorded as a failure by RunHistoryListener
+            result.setAttribute(Quarantine.FAILED, Boolean.TRUE);
+            result.setStatus(ITestResult.SKIP);
+            if (extentTest != null) {
+                ExtentManager.log(extentTest, Status.WARNING, "Quarantined flaky test - failure does not fail the build");
+            }
+        }
+        test.remove();
+        // A crashed browser is replaced rather than reset, so a retry starts on a fresh session
+        releaseLease(currentLease, TransientFailure.classify(result.getThrowable()) == TransientFailure.SESSION_CRASH);
+        currentContext.remove();
+    }
+
+    /**
+     * Report what the browser-side network filters did during the test
+     * @param driver Browser used by the test
+     * @param extentTest Report entry of the test
+     */
+    private static void logNetworkSummary(WebDriver driver, ExtentTest extentTest) {
+        NetworkSession network = NetworkInterception.sessionOf(driver);
+        if (network == null) {
+            return;
+        }
+        NetworkSession.Snapshot snapshot = network.drain();
+        if (!snapshot.isEmpty()) {
+            ExtentManager.log(extentTest, Status.INFO, snapshot.getSummary());
+        }
+    }
+
+    /**
+     * Report the test's WebDriver commands and enforce its {@link CommandBudget}, if any
+     * An exceeded budget marks a passing test as failed unless the budget only warns
+     * @param result TestNG test result
+     * @param profile Commands issued by the test, null when profiling was not started
+     * @param extentTest Report entry of the test
+     */
+    private void checkCommandBudget(ITestResult result, CommandProfiler.Profile profile, ExtentTest extentTest) {
+        if (profile == null || !ConfigReader.getInstance().isDriverProfilingEnabled()) {
+            return;
+        }
+        String summary = "WebDriver: " + profile.getSummary();
+        logger.info(result.getName() + " - " + summary);
+        if (extentTest != null) {
+            ExtentManager.log(extentTest, Status.INFO, summary);
+        }
+
+        Method method = result.getMethod().getConstructorOrMethod().getMethod();
+        CommandBudget budget = method.getAnnotation(CommandBudget.class);
+        if (budget == null) {
+            budget = method.getDeclaringClass().getAnnotation(CommandBudget.class);
+        }
+        if (budget == null) {
+            return;
+        }
+        List<String> exceeded = new ArrayList<>();
+        if (budget.maxCommands() > 0 && profile.getCommandCount() > budget.maxCommands()) {
+            exceeded.add(profile.getCommandCount() + " commands > budget of " + budget.maxCommands());
+        }
+        if (budget.maxMillis() > 0 && profile.getTotalMillis() > budget.maxMillis()) {
+            exceeded.add(profile.getTotalMillis() + " ms in commands > budget of " + budget.maxMillis() + " ms");
+        }
+        if (exceeded.isEmpty()) {
+            return;
+        }
+        String message = "Command budget exceeded: " + String.join(", ", exceeded);
+        if (budget.failOnExceed() && result.getStatus() == ITestResult.SUCCESS) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError(message));
+        } else {
+            logger.warn(result.getName() + " - " + message);
+            if (extentTest != null) {
+                ExtentManager.log(extentTest, Status.WARNING, message);
+            }
+        }
+    }
+
+    /**
+     * Test context teardown - Return any session still leased by threads of this context
+     * @param context TestNG test context that has finished
+     */
+    @AfterTest(alwaysRun = true)
+    public void afterTest(ITestContext context) {
+        releaseLeases(contextLeases.remove(context.getName()));
+    }
     
     /**
-     * Suite teardown - Flush Extent Reports and close browser
+     * Suite teardown - Flush Extent Reports and close every pooled browser
      */
     @AfterSuite(alwaysRun = true)
     public void afterSuite() {
-        // Close browser at the end of entire suite
-        if (driver != null) {
-            driver.quit();
-            logger.info("WebDriver closed - Browser session ended");
+        // Close browsers at the end of entire suite
+        for (String contextName : contextLeases.keySet()) {
+            releaseLeases(contextLeases.remove(contextName));
+        }
+        if (driverPool != null) {
+            driverPool.shutdown();
         }
+        if (fixtureServer != null) {
+            ExtentManager.setSystemInfo("Fixture Server", fixtureServer.getSummary());
+            fixtureServer.stop();
+        }
+        if (HttpCache.isEnabled()) {
+            ExtentManager.setSystemInfo("HTTP Cache", HttpCache.getSummary());
+        }
+        if (RequestBlocker.isEnabled()) {
+            ExtentManager.setSystemInfo("Request Blocking", RequestBlocker.getSummary());
+        }
+        ScreenshotPipeline.drain();
+        TestLogBridge.shutdown();
+        AdaptiveTimeouts.save();
+        RequestBlocker.save();
+        ExtentManager.setSystemInfo("Session Reset", SessionResetter.getSummary());
+        ExtentManager.setSystemInfo("Retries", TransientRetryAnalyzer.getSummary());
+        ExtentManager.setSystemInfo("Screenshot Pipeline", ScreenshotPipeline.getSummary());
+        ExtentManager.setSystemInfo("Screenshot Store", ScreenshotStore.getSummary());
+        ExtentManager.setSystemInfo("Log Bridge", TestLogBridge.getSummary());
+        logger.info("Session reset: " + SessionResetter.getSummary());
+        StepMetrics.publish();
+        LocatorEngine.publish();
         ExtentManager.flushReport();
         logger.info("========== Test Suite Completed ==========");
     }
 
     /**
-     * Get WebDriver instance
+     * Return the current thread's lease to the pool
+     * @param currentLease Lease held by this thread (may be null)
+     * @param discard true to quit the session instead of resetting it for reuse
+     */
+    private static void releaseLease(DriverPool.Lease currentLease, boolean discard) {
+        lease.remove();
+        if (currentLease == null) {
+            return;
+        }
+        Queue<DriverPool.Lease> leases = contextLeases.get(currentContextName());
+        if (leases != null) {
+            leases.remove(currentLease);
+        }
+        if (discard) {
+            driverPool.discard(currentLease);
+        } else {
+            driverPool.release(currentLease);
+        }
+    }
+
+    /**
+     * Return a group of leases to the pool
+     * @param leases Leases to return (may be null)
+     */
+    private static void releaseLeases(Queue<DriverPool.Lease> leases) {
+        if (leases == null) {
+            return;
+        }
+        DriverPool.Lease leaked;
+        while ((leaked = leases.poll()) != null) {
+            driverPool.release(leaked);
+        }
+    }
+
+    private static String currentContextName() {
+        return currentContext.get() != null ? currentContext.get() : DEFAULT_CONTEXT;
+    }
+
+    /**
+     * Get WebDriver instance for the current thread
+     * Leases a session from the pool on the first call of each test
      * @return WebDriver instance
      */
     public WebDriver getDriver() {
-        return driver;
+        DriverPool.Lease currentLease = lease.get();
+        if (currentLease == null) {
+            currentLease = CommandProfiler.untracked(() -> getDriverPool().lease());
+            contextLeases.computeIfAbsent(currentContextName(), name -> new ConcurrentLinkedQueue<>()).add(currentLease);
+            lease.set(currentLease);
+            WebDriver leased = currentLease.getDriver();
+            BlockingProfile profile = BlockingProfile.forTestClass(getClass());
+            CommandProfiler.untracked(() -> NetworkInterception.applyBlockingProfile(leased, profile));
+        }
+        return currentLease.getDriver();
     }
 
     /**
@@ -120,49 +448,80 @@ public class BaseTest {
      * @return ExtentTest instance
      */
     protected ExtentTest createTest(String testName, String description) {
-        ExtentTest extentTest = extent.createTest(testName, description);
+        ExtentTest extentTest = ExtentManager.createTest(testName, description);
         test.set(extentTest);
         return extentTest;
     }
 
     /**
-     * Log info message to Extent Report
+     * Log info message to Log4j and the Extent Report
+     * Written by the {@link TestLogBridge} thread, so the test does not wait for the appenders
      * @param message Message to log
      */
     protected void logInfo(String message) {
-        logger.info(message);
-        if (test.get() != null) {
-            test.get().log(Status.INFO, message);
-        }
+        TestLogBridge.log(logger, test.get(), TestLogBridge.Kind.INFO, message);
     }
 
     /**
-     * Log pass message to Extent Report
+     * Log info message with {} placeholders, formatted off the test thread
+     * @param format Message format
+     * @param args Placeholder values
+     */
+    protected void logInfo(String format, Object... args) {
+        TestLogBridge.log(logger, test.get(), TestLogBridge.Kind.INFO, format, args);
+    }
+
+    /**
+     * Log pass message to Log4j and the Extent Report
      * @param message Message to log
      */
     protected void logPass(String message) {
-        logger.info("PASS: " + message);
-        if (test.get() != null) {
-            test.get().log(Status.PASS, message);
-        }
+        TestLogBridge.log(logger, test.get(), TestLogBridge.Kind.PASS, message);
+    }
+
+    /**
+     * Log pass message with {} placeholders, formatted off the test thread
+     * @param format Message format
+     * @param args Placeholder values
+     */
+    protected void logPass(String format, Object... args) {
+        TestLogBridge.log(logger, test.get(), TestLogBridge.Kind.PASS, format, args);
     }
 
     /**
-     * Log fail message to Extent Report
+     * Log fail message to Log4j and the Extent Report
      * @param message Message to log
      */
     protected void logFail(String message) {
-        logger.error("FAIL: " + message);
-        if (test.get() != null) {
-            test.get().log(Status.FAIL, message);
-        }
+        TestLogBridge.log(logger, test.get(), TestLogBridge.Kind.FAIL, message);
+    }
+
+    /**
+     * Log fail message with {} placeholders, formatted off the test thread
+     * @param format Message format
+     * @param args Placeholder values
+     */
+    protected void logFail(String format, Object... args) {
+        TestLogBridge.log(logger, test.get(), TestLogBridge.Kind.FAIL, format, args);
     }
 
     /**
      * Navigate to application URL
      */
     protected void navigateToApplication() {
-       
+        String url = getApplicationUrl();
+        getDriver().get(url);
+        waitForPageLoad();
+        logInfo("Navigated to: {}", url);
+    }
+
+    /**
+     * Get the URL the suite opens - the fixture server when fixtures are enabled, the configured URL otherwise
+     * @return Application URL
+     */
+    protected static String getApplicationUrl() {
+        FixtureServer server = fixtureServer;
+        return server != null ? server.getBaseUrl() : ConfigReader.getInstance().getUrl();
     }
 
     /**
@@ -170,8 +529,7 @@ public class BaseTest {
      * Uses document.readyState to determine if page is fully loaded
      */
     protected void waitForPageLoad() {
-        WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(config.getExplicitWait()));
-        wait.until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
+        CompositeWait.pageReady(getDriver(), Duration.ofSeconds(config.getExplicitWait()));
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.cts.mmt.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * CommandBudget - Upper bound on the WebDriver round trips a test may make
+ * Checked by {@link BaseTest} after each test against the {@link com.cts.mmt.utils.CommandProfiler}
+ * counts, so a page-object change that adds remote calls shows up as a failure (or warning)
+ * instead of a slower suite
+ *
+ * <pre>
+ * &#64;CommandBudget(maxCommands = 20)
+ * public void testExtractAdultPersonNumbers() { ... }
+ * </pre>
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface CommandBudget {
+
+    /**
+     * Maximum number of WebDriver commands, 0 for no limit
+     * @return Command budget
+     */
+    int maxCommands() default 0;
+
+    /**
+     * Maximum total time spent in WebDriver commands in milliseconds, 0 for no limit
+     * @return Latency budget
+     */
+    long maxMillis() default 0;
+
+    /**
+     * Fail the test when the budget is exceeded; otherwise only log a warning
+     * @return true to fail
+     */
+    boolean failOnExceed() default true;
+}
@@ -0,0 +1,322 @@
+package com.cts.mmt.base;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * DriverPool - Pool of pre-warmed browser sessions leased to tests
+ * Sessions are launched ahead of time in the background, probed before each lease,
+ * reset when returned and replaced once they crash or exceed their age/use limits
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private final Supplier<WebDriver> driverFactory;
+    private final BiPredicate<WebDriver, String> sessionReset;
+    private final int maxSize;
+    private final int warmUpCount;
+    private final Duration maxAge;
+    private final int maxUses;
+    private final Duration leaseTimeout;
+
+    // Idle sessions ready to be leased, most recently returned first
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+
+    // Sessions alive in the pool (idle, leased or being launched)
+    private final AtomicInteger totalSessions = new AtomicInteger();
+
+    // Background launcher for warm-up and replacement sessions
+    private final ExecutorService launcher;
+
+    private volatile boolean shutdown;
+
+    /**
+     * Create a new driver pool
+     * @param driverFactory Factory that launches a new browser session
+     * @param sessionReset Cleans a returned session given its original window handle; returning false relaunches it instead
+     * @param maxSize Maximum number of live sessions
+     * @param warmUpCount Number of sessions to launch in the background up front
+     * @param maxAge Maximum age of a session before it is recycled
+     * @param maxUses Maximum number of leases per session before it is recycled
+     * @param leaseTimeout Maximum time a test waits for a free session
+     */
+    public DriverPool(Supplier<WebDriver> driverFactory, BiPredicate<WebDriver, String> sessionReset, int maxSize,
+                      int warmUpCount, Duration maxAge, int maxUses, Duration leaseTimeout) {
+        this.driverFactory = driverFactory;
+        this.sessionReset = sessionReset;
+        this.maxSize = Math.max(1, maxSize);
+        this.warmUpCount = Math.min(Math.max(0, warmUpCount), this.maxSize);
+        this.maxAge = maxAge;
+        this.maxUses = Math.max(1, maxUses);
+        this.leaseTimeout = leaseTimeout;
+        this.launcher = Executors.newFixedThreadPool(Math.max(1, this.warmUpCount), runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-launcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Launch the configured number of warm-up sessions in the background
+     */
+    public void warmUp() {
+        for (int i = 0; i < warmUpCount; i++) {
+            launchInBackground();
+        }
+        logger.info("Driver pool warming up " + warmUpCount + " of " + maxSize + " sessions");
+    }
+
+    /**
+     * Lease a healthy session, waiting for one to be returned if the pool is exhausted
+     * @return Lease holding the driver and the time spent waiting for it
+     */
+    public Lease lease() {
+        long start = System.nanoTime();
+        long deadline = start + leaseTimeout.toNanos();
+        while (!shutdown) {
+            PooledSession session = idle.pollFirst();
+            if (session == null && reserveSlot()) {
+                session = launch();
+            }
+            if (session == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                try {
+                    session = idle.pollFirst(remaining, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+                }
+                if (session == null) {
+                    continue;
+                }
+            }
+            if (isHealthy(session)) {
+                session.uses++;
+                long waitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                logger.debug("Leased browser session after " + waitMillis + " ms");
+                return new Lease(session, waitMillis);
+            }
+            evict(session, "failed health check or exceeded recycling limits");
+        }
+        throw new IllegalStateException("No browser session available within " + leaseTimeout.toSeconds() + " seconds");
+    }
+
+    /**
+     * Return a leased session to the pool
+     * The session is reset; it is evicted and replaced if the reset fails or it has reached its limits
+     * @param lease Lease obtained from {@link #lease()}
+     */
+    public void release(Lease lease) {
+        if (lease == null || lease.released) {
+            return;
+        }
+        lease.released = true;
+        PooledSession session = lease.session;
+        if (shutdown) {
+            quit(session);
+            return;
+        }
+        if (isExpired(session)) {
+            evict(session, "reached max age/uses");
+            return;
+        }
+        if (!sessionReset.test(session.driver, session.primaryWindow)) {
+            evict(session, "session reset failed or relaunch mode");
+            return;
+        }
+        idle.offerFirst(session);
+    }
+
+    /**
+     * Return a leased session that must not be reused, e.g. after the browser crashed
+     * The session is quit and a replacement launched in the background
+     * @param lease Lease obtained from {@link #lease()}
+     */
+    public void discard(Lease lease) {
+        if (lease == null || lease.released) {
+            return;
+        }
+        lease.released = true;
+        if (shutdown) {
+            quit(lease.session);
+            return;
+        }
+        evict(lease.session, "discarded by the test");
+    }
+
+    /**
+     * Quit every idle session and stop launching new ones
+     * Leased sessions are quit when they are released
+     */
+    public void shutdown() {
+        shutdown = true;
+        launcher.shutdownNow();
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            quit(session);
+        }
+        logger.info("Driver pool shut down");
+    }
+
+    /**
+     * Cheap liveness probe plus recycling policy check
+     * @param session Session to validate
+     * @return true if the session can be leased
+     */
+    private boolean isHealthy(PooledSession session) {
+        if (isExpired(session)) {
+            return false;
+        }
+        try {
+            session.driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            logger.warn("Browser session failed liveness probe: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledSession session) {
+        return session.uses >= maxUses
+                || System.nanoTime() - session.createdAt > maxAge.toNanos();
+    }
+
+    /**
+     * Quit a session and launch a replacement in the background
+     * @param session Session to evict
+     * @param reason Reason for the log
+     */
+    private void evict(PooledSession session, String reason) {
+        logger.info("Evicting browser session: " + reason);
+        quit(session);
+        if (!shutdown && idle.size() < Math.max(1, warmUpCount)) {
+            launchInBackground();
+        }
+    }
+
+    private void quit(PooledSession session) {
+        totalSessions.decrementAndGet();
+        try {
+            session.driver.quit();
+        } catch (Exception e) {
+            logger.warn("Failed to quit browser session: " + e.getMessage());
+        }
+    }
+
+    private void launchInBackground() {
+        if (!reserveSlot()) {
+            return;
+        }
+        launcher.execute(() -> {
+            PooledSession session = launch();
+            if (session != null) {
+                if (shutdown) {
+                    quit(session);
+                } else {
+                    idle.offerLast(session);
+                }
+            }
+        });
+    }
+
+    /**
+     * Reserve room for one more session without exceeding the pool size
+     * @return true if a slot was reserved
+     */
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = totalSessions.get();
+            if (current >= maxSize) {
+                return false;
+            }
+        } while (!totalSessions.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Launch a session into a reserved slot, releasing the slot on failure
+     * @return New session or null if the browser could not be started
+     */
+    private PooledSession launch() {
+        WebDriver driver = null;
+        try {
+            driver = driverFactory.get();
+            return new PooledSession(driver, driver.getWindowHandle());
+        } catch (Exception e) {
+            totalSessions.decrementAndGet();
+            logger.error("Failed to launch browser session: " + e.getMessage());
+            if (driver != null) {
+                try {
+                    driver.quit();
+                } catch (Exception quitFailure) {
+                    logger.warn("Failed to quit browser session: " + quitFailure.getMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Browser session owned by the pool
+     */
+    private static final class PooledSession {
+        private final WebDriver driver;
+        // Window the browser opened with; kept open by every reset
+        private final String primaryWindow;
+        private final long createdAt = System.nanoTime();
+        private int uses;
+
+        private PooledSession(WebDriver driver, String primaryWindow) {
+            this.driver = driver;
+            this.primaryWindow = primaryWindow;
+        }
+    }
+
+    /**
+     * Lease of one pooled session to one test
+     */
+    public static final class Lease {
+        private final PooledSession session;
+        private final long waitMillis;
+        private volatile boolean released;
+
+        private Lease(PooledSession session, long waitMillis) {
+            this.session = session;
+            this.waitMillis = waitMillis;
+        }
+
+        /**
+         * Get the leased driver
+         * @return WebDriver instance
+         */
+        public WebDriver getDriver() {
+            return session.driver;
+        }
+
+        /**
+         * Get the time the test waited for this session
+         * @return Wait time in milliseconds
+         */
+        public long getWaitMillis() {
+            return waitMillis;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.cts.mmt.base;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import com.cts.mmt.utils.ConfigReader;
+import com.cts.mmt.utils.RunHistory;
+import com.cts.mmt.utils.TestDurations;
+
+/**
+ * FailureFirstOrdering - Runs the tests most likely to fail first
+ * Order: tests whose last run failed, then flaky tests (mixed outcomes or retries within the
+ * last order.history.runs runs), then tests whose class or page objects have uncommitted changes
+ * in the git working tree, then everything else. Within each group the shortest tests go first;
+ * tests without history count as zero so new tests report early
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class FailureFirstOrdering implements IMethodInterceptor {
+
+    private static final Logger logger = LogManager.getLogger(FailureFirstOrdering.class);
+
+    private static final String PAGES_PACKAGE = "com.cts.mmt.pages";
+    private static final long GIT_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Ordering groups, in run order
+     */
+    enum Group {
+        FAILED_LAST_RUN, FLAKY, CHANGED, REST
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        ConfigReader config = ConfigReader.getInstance();
+        if (!config.isOrderFailureFirst() || methods.size() < 2) {
+            return methods;
+        }
+        Map<String, Long> durations = TestDurations.load();
+        RunHistory history = RunHistory.shared();
+        Set<String> changed = changedClasses();
+
+        Map<String, Group> groups = new HashMap<>();
+        Map<Group, Integer> counts = new EnumMap<>(Group.class);
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            groups.computeIfAbsent(keyOf(method), key -> {
+                Group group = groupOf(key, method.getRealClass(), history, config.getOrderHistoryRuns(), changed);
+                counts.merge(group, 1, Integer::sum);
+                return group;
+            });
+        }
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparing((IMethodInstance instance) -> groups.get(keyOf(instance.getMethod())))
+                .thenComparingLong(instance -> durations.getOrDefault(keyOf(instance.getMethod()), 0L))
+                .thenComparing(instance -> keyOf(instance.getMethod())));
+        logger.info("Ordered " + ordered.size() + " methods of '" + context.getName() + "' failure-first: " + counts
+                + (changed.isEmpty() ? "" : ", changed classes " + changed));
+        return ordered;
+    }
+
+    private static Group groupOf(String key, Class<?> testClass, RunHistory history, int runs, Set<String> changed) {
+        if (history != null) {
+            List<RunHistory.Run> recent = history.last(key, runs);
+            if (!recent.isEmpty() && recent.get(0).outcome() == RunHistory.Outcome.FAIL) {
+                return Group.FAILED_LAST_RUN;
+            }
+            boolean passed = false;
+            boolean failed = false;
+            for (RunHistory.Run run : recent) {
+                passed |= run.outcome() == RunHistory.Outcome.PASS;
+                failed |= run.outcome() == RunHistory.Outcome.FAIL;
+                if (run.retries() > 0) {
+                    return Group.FLAKY;
+                }
+            }
+            if (passed && failed) {
+                return Group.FLAKY;
+            }
+        }
+        return !changed.isEmpty() && usesChanged(testClass, changed) ? Group.CHANGED : Group.REST;
+    }
+
+    /**
+     * Check if a test class, or a page object it holds in a field, has uncommitted changes
+     */
+    private static boolean usesChanged(Class<?> testClass, Set<String> changed) {
+        for (Class<?> type = testClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (changed.contains(type.getSimpleName())) {
+                return true;
+            }
+            for (Field field : type.getDeclaredFields()) {
+                Class<?> fieldType = field.getType();
+                if (fieldType.getPackageName().equals(PAGES_PACKAGE) && changed.contains(fieldType.getSimpleName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the simple names of Java classes modified, added or untracked in the git working tree
+     * @return Class names, empty if git is unavailable
+     */
+    private static Set<String> changedClasses() {
+        Set<String> changed = new HashSet<>();
+        try {
+            Process git = new ProcessBuilder("git", "status", "--porcelain", "--untracked-files=all")
+                    .redirectErrorStream(true)
+                    .start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(git.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    // "XY path" or "R  old -> new"
+                    String path = line.length() > 3 ? line.substring(3) : "";
+                    int arrow = path.indexOf(" -> ");
+                    path = (arrow >= 0 ? path.substring(arrow + 4) : path).replace("\"", "");
+                    if (path.endsWith(".java")) {
+                        changed.add(path.substring(path.lastIndexOf('/') + 1, path.length() - ".java".length()));
+                    }
+                }
+            }
+            if (!git.waitFor(GIT_TIMEOUT_SECONDS, TimeUnit.SECONDS) || git.exitValue() != 0) {
+                git.destroy();
+                logger.debug("git status unavailable - ordering without working tree changes");
+                return Set.of();
+            }
+        } catch (Exception e) {
+            logger.debug("git status unavailable - ordering without working tree changes: " + e.getMessage());
+            return Set.of();
+        }
+        return changed;
+    }
+
+    private static String keyOf(ITestNGMethod method) {
+        return TestDurations.keyOf(method.getRealClass().getName(), method.getMethodName());
+    }
+}
@@ -0,0 +1,109 @@
+package com.cts.mmt.base;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+
+import com.cts.mmt.utils.ConfigReader;
+import com.cts.mmt.utils.RunHistory;
+
+/**
+ * Quarantine - Tests that flip-flop between pass and fail across runs
+ * A test is quarantined when its last quarantine.history.runs runs in the {@link RunHistory}
+ * change outcome at least quarantine.min.flips times (a pass that needed a retry counts as a
+ * flip). Quarantined tests get the "quarantine" group, which testng.xml runs as its own
+ * parallel &lt;test&gt; block, and with quarantine.fail.build=false their failures are reported
+ * without failing the build. A test leaves quarantine once its recent runs are stable
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public final class Quarantine {
+
+    private static final Logger logger = LogManager.getLogger(Quarantine.class);
+
+    /**
+     * TestNG group of quarantined tests
+     */
+    public static final String GROUP = "quarantine";
+
+    /**
+     * Result attribute marking a quarantined failure that was reported as skipped
+     */
+    public static final String FAILED = "quarantine.failed";
+
+    // Decided once per JVM so every <test> block sees the same split
+    private static final Set<String> quarantined = new HashSet<>();
+    private static boolean loaded;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private Quarantine() {
+    }
+
+    /**
+     * Check if a test is quarantined
+     * @param test Test key, "Class#method"
+     * @return true if the test flip-flopped in its recent runs
+     */
+    public static synchronized boolean isQuarantined(String test) {
+        if (!loaded) {
+            loaded = true;
+            load();
+        }
+        return quarantined.contains(test);
+    }
+
+    /**
+     * Check if a result belongs to a quarantined test
+     * @param result TestNG result
+     * @return true if the method is in the quarantine group
+     */
+    public static boolean isQuarantined(ITestResult result) {
+        return List.of(result.getMethod().getGroups()).contains(GROUP);
+    }
+
+    private static void load() {
+        ConfigReader config = ConfigReader.getInstance();
+        RunHistory history = config.isQuarantineEnabled() ? RunHistory.shared() : null;
+        if (history == null) {
+            return;
+        }
+        for (String test : history.tests()) {
+            if (flips(history.last(test, config.getQuarantineHistoryRuns())) >= config.getQuarantineMinFlips()) {
+                quarantined.add(test);
+            }
+        }
+        if (!quarantined.isEmpty()) {
+            logger.warn("Quarantined " + quarantined.size() + " flaky tests: " + quarantined);
+        }
+    }
+
+    /**
+     * Count outcome changes between consecutive pass/fail runs, plus passes that needed retries
+     * @param runs Runs, newest first
+     * @return Number of flips
+     */
+    static int flips(List<RunHistory.Run> runs) {
+        int flips = 0;
+        RunHistory.Outcome previous = null;
+        for (RunHistory.Run run : runs) {
+            if (run.outcome() == RunHistory.Outcome.SKIP) {
+                continue;
+            }
+            if (previous != null && previous != run.outcome()) {
+                flips++;
+            }
+            if (run.outcome() == RunHistory.Outcome.PASS && run.retries() > 0) {
+                flips++;
+            }
+            previous = run.outcome();
+        }
+        return flips;
+    }
+}
@@ -0,0 +1,40 @@
+package com.cts.mmt.base;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import com.cts.mmt.utils.TestDurations;
+
+/**
+ * RetryTransformer - Gives every test the {@link TransientRetryAnalyzer} and moves flaky
+ * tests into the {@link Quarantine} group
+ * Must be registered in testng.xml; tests that declare their own retryAnalyzer keep it
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class RetryTransformer implements IAnnotationTransformer {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (testMethod == null) {
+            return;
+        }
+        if (annotation.getRetryAnalyzerClass() == null || annotation.getRetryAnalyzerClass() == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(TransientRetryAnalyzer.class);
+        }
+        String test = TestDurations.keyOf(testMethod.getDeclaringClass().getName(), testMethod.getName());
+        String[] groups = annotation.getGroups();
+        if (Quarantine.isQuarantined(test) && !Arrays.asList(groups).contains(Quarantine.GROUP)) {
+            String[] withQuarantine = Arrays.copyOf(groups, groups.length + 1);
+            withQuarantine[groups.length] = Quarantine.GROUP;
+            annotation.setGroups(withQuarantine);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.cts.mmt.base;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import com.cts.mmt.utils.RunHistory;
+import com.cts.mmt.utils.TestDurations;
+
+/**
+ * RunHistoryListener - Appends every finished test to the {@link RunHistory} store
+ * Result callbacks run after {@link BaseTest#tearDown}, which leaves the test's step timings and
+ * browser wait on the result; retried attempts are counted and stored with the final outcome
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class RunHistoryListener implements ITestListener {
+
+    /**
+     * Result attribute holding step name to total nanoseconds, set by BaseTest
+     */
+    public static final String STEP_TIMINGS = "runHistory.stepTimings";
+
+    /**
+     * Result attribute holding the milliseconds spent getting a browser, set by BaseTest
+     */
+    public static final String DRIVER_START = "runHistory.driverStart";
+
+    // Retried attempts per test key since its last stored outcome
+    private final Map<String, AtomicInteger> retries = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        store(result, RunHistory.Outcome.PASS);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        store(result, RunHistory.Outcome.FAIL);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            retries.computeIfAbsent(keyOf(result), key -> new AtomicInteger()).incrementAndGet();
+            return;
+        }
+        // Quarantined failures are reported as skips but are still failures for the history
+        store(result, result.getAttribute(Quarantine.FAILED) != null ? RunHistory.Outcome.FAIL : RunHistory.Outcome.SKIP);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        store(result, RunHistory.Outcome.PASS);
+    }
+
+    private void store(ITestResult result, RunHistory.Outcome outcome) {
+        RunHistory history = RunHistory.shared();
+        if (history == null) {
+            return;
+        }
+        String key = keyOf(result);
+        AtomicInteger retried = retries.remove(key);
+        Object driverStart = result.getAttribute(DRIVER_START);
+        history.append(new RunHistory.Run(key, result.getEndMillis(), outcome,
+                (int) (result.getEndMillis() - result.getStartMillis()),
+                retried != null ? retried.get() : 0,
+                driverStart instanceof Number millis ? millis.intValue() : -1,
+                stepMillis(result.getAttribute(STEP_TIMINGS))));
+    }
+
+    private static Map<String, Integer> stepMillis(Object attribute) {
+        if (!(attribute instanceof Map<?, ?> steps)) {
+            return Map.of();
+        }
+        Map<String, Integer> millis = new LinkedHashMap<>();
+        steps.forEach((step, nanos) -> millis.put(String.valueOf(step),
+                (int) TimeUnit.NANOSECONDS.toMillis(((Number) nanos).longValue())));
+        return Collections.unmodifiableMap(millis);
+    }
+
+    private static String keyOf(ITestResult result) {
+        return TestDurations.keyOf(result.getMethod().getRealClass().getName(), result.getMethod().getMethodName());
+    }
+}
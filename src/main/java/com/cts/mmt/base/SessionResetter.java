@@ -0,0 +1,182 @@
+package com.cts.mmt.base;
+
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * SessionResetter - Restores a used browser session to a clean state without relaunching it
+ * Closes every window but the one the browser opened with, clears the storage of every origin
+ * the windows visited (DevTools Storage.clearDataForOrigin), cookies and caches,
+ * then parks the session on about:blank
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class SessionResetter {
+
+    private static final Logger logger = LogManager.getLogger(SessionResetter.class);
+
+    // Clears Web Storage and the Cache API for the current origin
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+            + "try { window.localStorage.clear(); } catch (e) {}"
+            + "try { window.sessionStorage.clear(); } catch (e) {}"
+            + "if (window.caches) {"
+            + "  caches.keys().then(function (keys) { return Promise.all(keys.map(function (k) { return caches.delete(k); })); })"
+            + "    .then(function () { done(true); }, function () { done(false); });"
+            + "} else { done(true); }";
+
+    private static final AtomicLong resetCount = new AtomicLong();
+    private static final AtomicLong resetNanos = new AtomicLong();
+    private static final AtomicLong failedResets = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private SessionResetter() {
+    }
+
+    /**
+     * Reset a browser session in place
+     * @param driver Driver to reset
+     * @param primaryWindow Handle of the window the session was launched with
+     * @return true if the session is clean and can be reused, false if it should be relaunched
+     */
+    public static boolean reset(WebDriver driver, String primaryWindow) {
+        long start = System.nanoTime();
+        try {
+            Set<String> origins = closeExtraWindows(driver, primaryWindow);
+            clearStorage(driver, origins);
+            clearCookiesAndCache(driver);
+            driver.get("about:blank");
+
+            long elapsed = System.nanoTime() - start;
+            resetCount.incrementAndGet();
+            resetNanos.addAndGet(elapsed);
+            logger.debug("Browser session reset in " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+            return true;
+        } catch (Exception e) {
+            failedResets.incrementAndGet();
+            logger.warn("Browser session reset failed, session will be relaunched: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Close every window except the primary one, e.g. tabs opened by search results
+     * @param driver Driver to clean up
+     * @param primaryWindow Window to keep
+     * @return Origins visited by the windows, empty without DevTools
+     */
+    private static Set<String> closeExtraWindows(WebDriver driver, String primaryWindow) {
+        Set<String> handles = driver.getWindowHandles();
+        if (!handles.contains(primaryWindow)) {
+            throw new IllegalStateException("Browser session lost its primary window");
+        }
+        Set<String> origins = new LinkedHashSet<>();
+        for (String handle : handles) {
+            if (handle.equals(primaryWindow)) {
+                continue;
+            }
+            driver.switchTo().window(handle);
+            addVisitedOrigins(driver, origins);
+            driver.close();
+        }
+        driver.switchTo().window(primaryWindow);
+        addVisitedOrigins(driver, origins);
+        return origins;
+    }
+
+    /**
+     * Add the origins in the current window's navigation history
+     * @param driver Driver positioned on the window
+     * @param origins Origins collected so far
+     */
+    @SuppressWarnings("unchecked")
+    private static void addVisitedOrigins(WebDriver driver, Set<String> origins) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        Map<String, Object> history = ((HasCdp) driver).executeCdpCommand("Page.getNavigationHistory", Map.of());
+        Object entries = history.get("entries");
+        if (!(entries instanceof List)) {
+            return;
+        }
+        for (Object entry : (List<Object>) entries) {
+            String origin = originOf(String.valueOf(((Map<String, Object>) entry).get("url")));
+            if (origin != null) {
+                origins.add(origin);
+            }
+        }
+    }
+
+    /**
+     * Get the origin of an http(s) URL
+     * @param url URL from the navigation history
+     * @return Origin such as https://www.makemytrip.com, or null for other schemes
+     */
+    static String originOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() == null || !("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Clear every storage type of the visited origins
+     * Without DevTools only Web Storage and Cache API data of the page currently loaded are cleared
+     * @param driver Driver to clean up
+     * @param origins Origins visited by the session's windows
+     */
+    private static void clearStorage(WebDriver driver, Set<String> origins) {
+        if (driver instanceof HasCdp) {
+            HasCdp cdp = (HasCdp) driver;
+            for (String origin : origins) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            }
+        } else if (driver.getCurrentUrl().startsWith("http")) {
+            ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+        }
+    }
+
+    /**
+     * Clear cookies for all domains and the HTTP cache
+     * Chromium browsers do this in two DevTools calls; others fall back to the current domain's cookies
+     * @param driver Driver to clean up
+     */
+    private static void clearCookiesAndCache(WebDriver driver) {
+        if (driver instanceof HasCdp) {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            cdp.executeCdpCommand("Network.clearBrowserCache", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+    }
+
+    /**
+     * Get a one-line summary of reset cost for the report
+     * @return Summary of reset count, average cost and failures
+     */
+    public static String getSummary() {
+        long count = resetCount.get();
+        long averageMillis = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(resetNanos.get() / count);
+        return count + " resets, avg " + averageMillis + " ms, " + failedResets.get() + " relaunched after failure";
+    }
+}
@@ -0,0 +1,81 @@
+package com.cts.mmt.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+
+import com.cts.mmt.utils.ShardPlanner;
+import com.cts.mmt.utils.TestDurations;
+
+/**
+ * ShardSelector - Runs only this machine's share of the suite when -Dshard=i/K is set
+ * TestNG calls the interceptor once per &lt;test&gt; block, so the split is planned once per suite
+ * from every test the suite file lists ({@link ShardPlanner#testsOf}), the same plan the generated
+ * shard suites use, and each block keeps the methods of shard i. Methods the plan does not know
+ * (e.g. created by a factory) run on shard 1. Without the property the suite runs unchanged
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class ShardSelector implements IMethodInterceptor {
+
+    private static final Logger logger = LogManager.getLogger(ShardSelector.class);
+
+    /**
+     * System property selecting the shard, e.g. "2/4"
+     */
+    public static final String SHARD_PROPERTY = "shard";
+
+    // Suite name -> split planned for this JVM
+    private static final Map<String, Selection> selections = new ConcurrentHashMap<>();
+
+    /**
+     * Tests of the whole suite and those of this machine's shard
+     */
+    private record Selection(Set<String> planned, Set<String> selected) {
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        String selector = System.getProperty(SHARD_PROPERTY);
+        if (selector == null || selector.isBlank()) {
+            return methods;
+        }
+        int[] shard = ShardPlanner.parseSelector(selector);
+        XmlSuite suite = context.getSuite().getXmlSuite();
+        Selection selection = selections.computeIfAbsent(suite.getName(), name -> select(suite, shard, selector));
+
+        List<IMethodInstance> kept = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            String key = keyOf(instance.getMethod());
+            if (selection.selected().contains(key) || (shard[0] == 1 && !selection.planned().contains(key))) {
+                kept.add(instance);
+            }
+        }
+        logger.info("Shard " + selector + " of '" + context.getName() + "': running " + kept.size() + " of "
+                + methods.size() + " methods");
+        return kept;
+    }
+
+    private static Selection select(XmlSuite suite, int[] shard, String selector) {
+        List<String> tests = ShardPlanner.testsOf(suite);
+        List<ShardPlanner.Shard> plan = ShardPlanner.plan(tests, ShardPlanner.durations(), shard[1]);
+        logger.info("Shard " + selector + " of suite '" + suite.getName() + "', " + tests.size() + " tests"
+                + System.lineSeparator() + ShardPlanner.describe(plan));
+        return new Selection(Set.copyOf(tests), Set.copyOf(plan.get(shard[0] - 1).tests()));
+    }
+
+    private static String keyOf(ITestNGMethod method) {
+        return TestDurations.keyOf(method.getRealClass().getName(), method.getMethodName());
+    }
+}
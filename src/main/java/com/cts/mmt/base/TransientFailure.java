@@ -0,0 +1,103 @@
+package com.cts.mmt.base;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.Locale;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+/**
+ * TransientFailure - Failures caused by timing or infrastructure rather than by the application
+ * Only these are retried by {@link TransientRetryAnalyzer}; assertion failures and anything
+ * unrecognized fail the test straight away
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public enum TransientFailure {
+
+    /**
+     * Wait or script timeout
+     */
+    TIMEOUT,
+
+    /**
+     * Element re-rendered between lookup and use
+     */
+    STALE_ELEMENT,
+
+    /**
+     * Browser or driver session died; the session must be replaced, not reset
+     */
+    SESSION_CRASH,
+
+    /**
+     * Connection reset, dropped or timed out
+     */
+    NETWORK;
+
+    private static final String[] SESSION_CRASH_MESSAGES = {
+        "chrome not reachable", "session deleted because of page crash", "tab crashed",
+        "disconnected: not connected to devtools", "browsing context has been discarded", "target window already closed"
+    };
+
+    private static final String[] NETWORK_MESSAGES = {
+        "net::err_connection_reset", "net::err_connection_closed", "net::err_connection_refused",
+        "net::err_network_changed", "net::err_internet_disconnected", "net::err_timed_out", "connection reset"
+    };
+
+    /**
+     * Classify a test failure by walking its cause chain
+     * @param failure Throwable of the failed test
+     * @return Transient failure kind, or null if the failure should not be retried
+     */
+    public static TransientFailure classify(Throwable failure) {
+        for (Throwable cause = failure; cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof AssertionError) {
+                return null;
+            }
+            TransientFailure kind = classifyOne(cause);
+            if (kind != null) {
+                return kind;
+            }
+        }
+        return null;
+    }
+
+    private static TransientFailure classifyOne(Throwable cause) {
+        if (cause instanceof NoSuchSessionException || cause instanceof UnreachableBrowserException) {
+            return SESSION_CRASH;
+        }
+        if (cause instanceof StaleElementReferenceException) {
+            return STALE_ELEMENT;
+        }
+        String message = cause.getMessage() != null ? cause.getMessage().toLowerCase(Locale.ROOT) : "";
+        // Checked before timeouts: a crashed tab often surfaces as a timeout
+        if (containsAny(message, SESSION_CRASH_MESSAGES)) {
+            return SESSION_CRASH;
+        }
+        if (cause instanceof SocketException || containsAny(message, NETWORK_MESSAGES)) {
+            return NETWORK;
+        }
+        if (cause instanceof TimeoutException || cause instanceof ScriptTimeoutException
+                || cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException
+                || cause instanceof java.util.concurrent.TimeoutException) {
+            return TIMEOUT;
+        }
+        return null;
+    }
+
+    private static boolean containsAny(String message, String[] fragments) {
+        for (String fragment : fragments) {
+            if (message.contains(fragment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
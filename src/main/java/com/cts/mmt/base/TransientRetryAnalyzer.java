@@ -0,0 +1,63 @@
+package com.cts.mmt.base;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import com.cts.mmt.utils.ConfigReader;
+
+/**
+ * TransientRetryAnalyzer - Retries a failed test only when the failure is a {@link TransientFailure}
+ * Each test gets at most retry.max.attempts retries, and the whole run at most retry.budget, so a
+ * broken environment cannot double the suite time. Quarantined tests are never retried. The retry
+ * runs on a reset session from the pool; after a session crash BaseTest discards the old browser
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class TransientRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final Logger logger = LogManager.getLogger(TransientRetryAnalyzer.class);
+
+    /**
+     * Result attribute holding the {@link TransientFailure} a retry was granted for
+     */
+    public static final String RETRIED_FOR = "retry.transientFailure";
+
+    private static final AtomicInteger retriesUsed = new AtomicInteger();
+    private static final AtomicInteger retriesRefused = new AtomicInteger();
+
+    private int attempts;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        ConfigReader config = ConfigReader.getInstance();
+        TransientFailure kind = TransientFailure.classify(result.getThrowable());
+        if (kind == null || Quarantine.isQuarantined(result) || attempts >= config.getRetryMaxAttempts()) {
+            return false;
+        }
+        if (retriesUsed.incrementAndGet() > config.getRetryBudget()) {
+            retriesUsed.decrementAndGet();
+            retriesRefused.incrementAndGet();
+            logger.warn("Retry budget of " + config.getRetryBudget() + " used up - not retrying "
+                    + result.getName() + " after " + kind);
+            return false;
+        }
+        attempts++;
+        result.setAttribute(RETRIED_FOR, kind);
+        logger.warn("Retrying " + result.getName() + " (attempt " + attempts + " of " + config.getRetryMaxAttempts()
+                + ") after " + kind + ": " + result.getThrowable());
+        return true;
+    }
+
+    /**
+     * Get suite-wide retry statistics for the report
+     * @return Summary text
+     */
+    public static String getSummary() {
+        return retriesUsed.get() + " transient failures retried, " + retriesRefused.get() + " refused by the budget";
+    }
+}
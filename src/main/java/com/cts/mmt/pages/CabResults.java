@@ -0,0 +1,139 @@
+package com.cts.mmt.pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.cts.mmt.utils.PriceParser;
+import com.cts.mmt.utils.PriceParser.Price;
+
+/**
+ * CabResults - Cab search results read once and sorted by fare
+ * Filtering by car type happens in memory, so one search answers the lowest fare
+ * of every category without another round trip through the filter checkboxes
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public final class CabResults {
+
+    /**
+     * One cab offer
+     * @param type Car type, e.g. "SUV"
+     * @param model Car model, e.g. "Xylo"
+     * @param fare Parsed fare, including any strike-through original
+     * @param inclusions Inclusions listed on the card, e.g. "Driver allowance"
+     */
+    public record Cab(String type, String model, Price fare, List<String> inclusions) {
+
+        /**
+         * Get the fare currency
+         * @return ISO currency code
+         */
+        public String currency() {
+            return fare.currency();
+        }
+    }
+
+    private final List<Cab> cabs;
+
+    private CabResults(List<Cab> cabs) {
+        this.cabs = cabs;
+    }
+
+    /**
+     * Build sorted results from the raw cards; cards without a readable price are dropped
+     * @param cards Cards read from the results page
+     * @return Results sorted by fare, cheapest first
+     */
+    static CabResults of(List<CabsPage.CabCard> cards) {
+        List<Cab> cabs = new ArrayList<>(cards.size());
+        for (CabsPage.CabCard card : cards) {
+            Price fare = PriceParser.parse(card.price(), card.originalPrice());
+            if (fare != null) {
+                cabs.add(new Cab(card.type(), card.name(), fare, card.inclusions()));
+            }
+        }
+        cabs.sort(Comparator.comparing(Cab::fare));
+        return new CabResults(Collections.unmodifiableList(cabs));
+    }
+
+    /**
+     * Get every result
+     * @return Results sorted by fare, cheapest first
+     */
+    public List<Cab> all() {
+        return cabs;
+    }
+
+    /**
+     * Get the results of one car type
+     * @param type Car type, matched case-insensitively
+     * @return Results of that type sorted by fare
+     */
+    public List<Cab> ofType(String type) {
+        List<Cab> matching = new ArrayList<>();
+        for (Cab cab : cabs) {
+            if (cab.type() != null && cab.type().equalsIgnoreCase(type)) {
+                matching.add(cab);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Get the cheapest result of one car type
+     * @param type Car type, matched case-insensitively
+     * @return Cheapest cab, or empty if the search has none of that type
+     */
+    public Optional<Cab> cheapest(String type) {
+        for (Cab cab : cabs) {
+            if (cab.type() != null && cab.type().equalsIgnoreCase(type)) {
+                return Optional.of(cab);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get the cheapest result of every car type
+     * @return Car type to cheapest cab, cheapest category first
+     */
+    public Map<String, Cab> cheapestPerType() {
+        Map<String, Cab> cheapest = new LinkedHashMap<>();
+        for (Cab cab : cabs) {
+            if (cab.type() != null) {
+                cheapest.putIfAbsent(cab.type().toUpperCase(Locale.ROOT), cab);
+            }
+        }
+        return cheapest;
+    }
+
+    /**
+     * Get the car types in the results
+     * @return Upper-case car types, sorted
+     */
+    public Set<String> types() {
+        return new TreeSet<>(cheapestPerType().keySet());
+    }
+
+    /**
+     * Check if the search returned no priced results
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return cabs.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return cabs.size() + " cabs, cheapest per type " + cheapestPerType();
+    }
+}
@@ -15,46 +15,85 @@ import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.cts.mmt.utils.AdaptiveWait;
+import com.cts.mmt.utils.Autosuggest;
+import com.cts.mmt.utils.CompositeWait;
+import com.cts.mmt.utils.ConfigReader;
+import com.cts.mmt.utils.DomExtractor;
+import com.cts.mmt.utils.DomField;
+import com.cts.mmt.utils.LocatorEngine;
+import com.cts.mmt.utils.StepMetrics;
+
 public class CabsPage {
 
     private static final Logger logger = LogManager.getLogger(CabsPage.class);
+
+    private static final By CAB_CARDS = By.cssSelector(".cabListingItem");
+    private static final By SUGGESTIONS = By.cssSelector(".react-autosuggest__suggestions-list li");
+
+    /**
+     * One cab result card
+     * @param name Car model, e.g. "Xylo"
+     * @param type Car type, e.g. "SUV"
+     * @param price Price as displayed, e.g. "₹ 12,499", with any strike-through fare
+     * @param originalPrice Strike-through fare, e.g. "₹ 13,999", null when not discounted
+     * @param inclusions Inclusions listed on the card
+     * @param displayed true if the card is visible (not filtered out)
+     */
+    public record CabCard(@DomField(css = ".cabName") String name,
+                          @DomField(css = ".cabType") String type,
+                          @DomField(css = ".cabPrice") String price,
+                          @DomField(css = ".cabPrice del") String originalPrice,
+                          @DomField(css = ".cabInclusions li") List<String> inclusions,
+                          boolean displayed) {
+    }
+
     private WebDriver driver;
-    private WebDriverWait wait;
-    private WebDriverWait shortWait;
+    private AdaptiveWait wait;
+    private AdaptiveWait shortWait;
     private JavascriptExecutor js;
 
     public CabsPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(3));
-        this.shortWait = new WebDriverWait(driver, Duration.ofSeconds(1));
+        ConfigReader config = ConfigReader.getInstance();
+        this.wait = AdaptiveWait.forPage(driver, "CabsPage", Duration.ofSeconds(config.getExplicitWait()));
+        this.shortWait = AdaptiveWait.forPage(driver, "CabsPage", Duration.ofSeconds(config.getShortWait()));
         this.js = (JavascriptExecutor) driver;
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(LocatorEngine.factory(driver), this);
         logger.info("CabsPage initialized");
     }
 
     public void enterFromCity(String city) {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.enterFromCity")) {
         
-       // kkj
+           // kkj
+        }
     }
 
     public void enterToCity(String city) {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.enterToCity")) {
        
+        }
 
     private void waitForAutosuggest() {
        //mnm
     }
 
     private void selectAutosuggest(String targetText) {
-        String[] keywords = targetText.toLowerCase().split("\\s+");
-        
+        Autosuggest.select(driver, SUGGESTIONS, targetText,
+                Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
     }
 
     public void selectDate() {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.selectDate")) {
       
+        }
     }
 
     public void clickSearch() {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.clickSearch")) {
        
+        }
     }
 
     private void handleNewWindowIfOpened() {
@@ -62,27 +101,60 @@ public class CabsPage {
     }
 
     public void selectSUVCarType() {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.selectSUVCarType")) {
        
+        }
+    }
+
+    /**
+     * Read every cab result card in one script call
+     * @return Cards in display order
+     */
+    public List<CabCard> getCabCards() {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.getCabCards")) {
+            List<CabCard> cards = DomExtractor.extract(driver, CAB_CARDS, CabCard.class);
+            logger.info("Read " + cards.size() + " cab results");
+            return cards;
+        }
+    }
+
+    /**
+     * Read every cab result in one pass, with parsed fares, for in-memory filtering by car type
+     * @return Results sorted by fare
+     */
+    public CabResults getCabResults() {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.getCabResults")) {
+            CabResults results = CabResults.of(getCabCards());
+            logger.info("Cab results: " + results);
+            return results;
+        }
     }
 
     public String getLowestCabPrice() {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.getLowestCabPrice")) {
         
+        }
     }
 
     public String bookOutstationCab(String fromCity, String toCity) {
-        enterFromCity(fromCity);
-        enterToCity(toCity);
-        selectDate();
-        clickSearch();
-        selectSUVCarType();
-        return getLowestCabPrice();
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.bookOutstationCab")) {
+            // Each action times itself
+            enterFromCity(fromCity);
+            enterToCity(toCity);
+            selectDate();
+            clickSearch();
+            selectSUVCarType();
+            return getLowestCabPrice();
+        }
     }
 
     private void waitForPageLoad() {
-       
+        CompositeWait.pageReady(driver, Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
     }
 
     public boolean isCabsPageDisplayed() {
+        try (StepMetrics.Step step = StepMetrics.step("CabsPage.isCabsPageDisplayed")) {
        
+        }
     }
 }
\ No newline at end of file
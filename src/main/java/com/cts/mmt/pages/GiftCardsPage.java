@@ -17,7 +17,11 @@ import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.cts.mmt.utils.AdaptiveWait;
+import com.cts.mmt.utils.CompositeWait;
 import com.cts.mmt.utils.ConfigReader;
+import com.cts.mmt.utils.LocatorEngine;
+import com.cts.mmt.utils.StepMetrics;
 
 /**
  * GiftCardsPage - Page Object for MakeMyTrip Gift Cards Page
@@ -30,7 +34,7 @@ public class GiftCardsPage {
 
     private static final Logger logger = LogManager.getLogger(GiftCardsPage.class);
     private WebDriver driver;
-    private WebDriverWait wait;
+    private AdaptiveWait wait;
     private JavascriptExecutor js;
 
     /**
@@ -39,9 +43,9 @@ public class GiftCardsPage {
      */
     public GiftCardsPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
+        this.wait = AdaptiveWait.forPage(driver, "GiftCardsPage", Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
         this.js = (JavascriptExecutor) driver;
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(LocatorEngine.factory(driver), this);
         logger.info("GiftCardsPage initialized");
     }
     
@@ -49,7 +53,7 @@ public class GiftCardsPage {
      * Wait for page load
      */
     private void waitForPageLoad() {
-       
+        CompositeWait.pageReady(driver, Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
     }
     
     /**
@@ -63,14 +67,18 @@ public class GiftCardsPage {
      * Select the first gift card using exact locator from Main.java
      */
     public void selectFirstGiftCard() {
+        try (StepMetrics.Step step = StepMetrics.step("GiftCardsPage.selectFirstGiftCard")) {
         
+        }
     }
 
     /**
      * Scroll to gift card details section
      */
     public void scrollToGiftCardSection() {
-     //   
+        try (StepMetrics.Step step = StepMetrics.step("GiftCardsPage.scrollToGiftCardSection")) {
+         //   
+        }
     }
 
     /**
@@ -78,7 +86,9 @@ public class GiftCardsPage {
      * @param name Sender's name
      */
     public void enterSenderName(String name) {
+        try (StepMetrics.Step step = StepMetrics.step("GiftCardsPage.enterSenderName")) {
         
+        }
     }
 
     /**
@@ -86,7 +96,9 @@ public class GiftCardsPage {
      * @param mobile Mobile number
      */
     public void enterSenderMobile(String mobile) {
+        try (StepMetrics.Step step = StepMetrics.step("GiftCardsPage.enterSenderMobile")) {
       
+        }
     }
 
     /**
@@ -94,14 +106,18 @@ public class GiftCardsPage {
      * @param email Email address
      */
     public void enterSenderEmail(String email) {
+        try (StepMetrics.Step step = StepMetrics.step("GiftCardsPage.enterSenderEmail")) {
        
+        }
     }
 
     /**
      * Click Buy Now button using exact locator from Main.java
      */
     public void clickBuyNow() {
+        try (StepMetrics.Step step = StepMetrics.step("GiftCardsPage.clickBuyNow")) {
        
+        }
     }
 
     /**
@@ -109,7 +125,9 @@ public class GiftCardsPage {
      * @return Error message text
      */
     public String getInvalidEmailErrorMessage() {
+        try (StepMetrics.Step step = StepMetrics.step("GiftCardsPage.getInvalidEmailErrorMessage")) {
         
+        }
     }
 
     /**
@@ -117,6 +135,8 @@ public class GiftCardsPage {
      * @return true if page is displayed
      */
     public boolean isGiftCardsPageDisplayed() {
+        try (StepMetrics.Step step = StepMetrics.step("GiftCardsPage.isGiftCardsPageDisplayed")) {
         
+        }
     }
 }
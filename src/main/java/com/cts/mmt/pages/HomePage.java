@@ -6,6 +6,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
@@ -14,7 +15,12 @@ import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.cts.mmt.utils.AdaptiveWait;
+import com.cts.mmt.utils.CompositeWait;
 import com.cts.mmt.utils.ConfigReader;
+import com.cts.mmt.utils.FallbackLocators;
+import com.cts.mmt.utils.LocatorEngine;
+import com.cts.mmt.utils.StepMetrics;
 
 /**
  * HomePage - Page Object for MakeMyTrip Home Page
@@ -27,7 +33,7 @@ public class HomePage {
 
     private static final Logger logger = LogManager.getLogger(HomePage.class);
     private WebDriver driver;
-    private WebDriverWait wait;
+    private AdaptiveWait wait;
     private JavascriptExecutor js;
     private Actions actions;
 
@@ -41,10 +47,16 @@ public class HomePage {
     @FindBy(xpath = "//span[contains(@class,'chNavIcon')]/parent::a[contains(@href,'flights')]")
     private WebElement flightsTab;
 
-    @FindBy(xpath = "//li[contains(@class,'menu_Flights')]//a | //span[text()='Flights']/parent::a")
+    @FallbackLocators({
+        @FindBy(css = "li[class*='menu_Flights'] a"),
+        @FindBy(xpath = "//span[text()='Flights']/parent::a")
+    })
     private WebElement flightsTabAlt;
 
-    @FindBy(xpath = "//span[text()='Hotels']/parent::a | //li[contains(@class,'menu_Hotels')]//a")
+    @FallbackLocators({
+        @FindBy(css = "li[class*='menu_Hotels'] a"),
+        @FindBy(xpath = "//span[text()='Hotels']/parent::a")
+    })
     private WebElement hotelsTab;
 
     @FindBy(xpath = "//span[text()='Homestays & Villas']/parent::a")
@@ -59,14 +71,20 @@ public class HomePage {
     @FindBy(xpath = "//span[text()='Buses']/parent::a")
     private WebElement busesTab;
 
-    @FindBy(xpath = "//span[text()='Cabs']/parent::a | //li[contains(@class,'menu_Cabs')]//a")
+    @FallbackLocators({
+        @FindBy(css = "li[class*='menu_Cabs'] a"),
+        @FindBy(xpath = "//span[text()='Cabs']/parent::a")
+    })
     private WebElement cabsTab;
 
     @FindBy(xpath = "//span[text()='Visa']/parent::a")
     private WebElement visaTab;
 
     // More menu (for Gift Cards, etc.)
-    @FindBy(xpath = "//span[text()='More']/parent::span | //li[contains(@class,'more')]//span")
+    @FallbackLocators({
+        @FindBy(css = "li[class*='more'] span"),
+        @FindBy(xpath = "//span[text()='More']/parent::span")
+    })
     private WebElement moreMenu;
 
     @FindBy(xpath = "//a[contains(text(),'Gift Cards') or contains(@href,'giftcard')]")
@@ -77,7 +95,7 @@ public class HomePage {
     private WebElement pageTitle;
 
     // Header logo
-    @FindBy(xpath = "//a[contains(@class,'makemytrip-logo') or contains(@class,'logo')]")
+    @FindBy(css = "a[class*='logo']")
     private WebElement mmtLogo;
 
     /**
@@ -85,14 +103,29 @@ public class HomePage {
      * @param driver WebDriver instance
      */
     public HomePage(WebDriver driver) {
-        
+        this.driver = driver;
+        this.wait = AdaptiveWait.forPage(driver, "HomePage", Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
+        this.js = (JavascriptExecutor) driver;
+        this.actions = new Actions(driver);
+        PageFactory.initElements(LocatorEngine.factory(driver), this);
+        logger.info("HomePage initialized");
     }
 
     /**
      * Close the popup if it appears on page load
+     * Waits only as long as the popup has historically taken to appear
      */
     public void closePopupIfPresent() {
-        
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.closePopupIfPresent")) {
+            try {
+                AdaptiveWait.forAction(driver, "HomePage.closePopupIfPresent", Duration.ofSeconds(ConfigReader.getInstance().getShortWait()))
+                        .until(ExpectedConditions.elementToBeClickable(closePopupButton))
+                        .click();
+                logger.info("Popup closed");
+            } catch (TimeoutException e) {
+                logger.info("No popup displayed");
+            }
+        }
     }
 
     /**
@@ -100,7 +133,9 @@ public class HomePage {
      * @return true if home page is displayed
      */
     public boolean isHomePageDisplayed() {
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.isHomePageDisplayed")) {
        
+        }
     }
 
     /**
@@ -108,7 +143,9 @@ public class HomePage {
      * @return CabsPage instance
      */
     public CabsPage clickCabsTab() {
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.clickCabsTab")) {
        
+        }
     }
 
     /**
@@ -116,29 +153,37 @@ public class HomePage {
      * @return HotelsPage instance
      */
     public HotelsPage clickHotelsTab() {
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.clickHotelsTab")) {
        
+        }
     }
     /**
      * Navigate to Gift Cards through More menu using exact locators from Main.java
      * @return GiftCardsPage instance
      */
     public GiftCardsPage navigateToGiftCards() {
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.navigateToGiftCards")) {
         
+        }
     }
 
     /**
      * Click on MakeMyTrip logo to go to home page
      */
     public void clickLogo() {
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.clickLogo")) {
         
+        }
     }
 
     /**
      * Scroll to top of the page
      */
     public void scrollToTop() {
-        js.executeScript("window.scrollTo(0, 0);");
-        logger.info("Scrolled to top of page");
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.scrollToTop")) {
+            js.executeScript("window.scrollTo(0, 0);");
+            logger.info("Scrolled to top of page");
+        }
     }
 
     /**
@@ -146,14 +191,18 @@ public class HomePage {
      * @return Page title string
      */
     public String getPageTitle() {
-        return driver.getTitle();
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.getPageTitle")) {
+            return driver.getTitle();
+        }
     }
 
     /**
      * Wait for page to load completely
      */
     public void waitForPageLoad() {
-        wait.until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
-        logger.info("Page loaded completely");
+        try (StepMetrics.Step step = StepMetrics.step("HomePage.waitForPageLoad")) {
+            CompositeWait.pageReady(driver, Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
+            logger.info("Page loaded completely");
+        }
     }
 }
@@ -14,7 +14,13 @@ import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.cts.mmt.utils.AdaptiveWait;
+import com.cts.mmt.utils.CompositeWait;
 import com.cts.mmt.utils.ConfigReader;
+import com.cts.mmt.utils.DomExtractor;
+import com.cts.mmt.utils.DomField;
+import com.cts.mmt.utils.LocatorEngine;
+import com.cts.mmt.utils.StepMetrics;
 
 /**
  * HotelsPage - Page Object for MakeMyTrip Hotels Booking Page
@@ -26,8 +32,36 @@ import com.cts.mmt.utils.ConfigReader;
 public class HotelsPage {
 
     private static final Logger logger = LogManager.getLogger(HotelsPage.class);
+
+    private static final By ADULT_COUNT_OPTIONS = By.cssSelector("ul[data-cy='adultCount'] li");
+
+    /**
+     * One entry of the adult count list in the Rooms &amp; Guests dropdown
+     * @param label Option text, e.g. "2" or "&gt;12"
+     * @param cssClass Class attribute, contains "selected" for the current count
+     * @param displayed true if the option is visible
+     */
+    public record AdultOption(String label, @DomField(attribute = "class") String cssClass, boolean displayed) {
+
+        /**
+         * Get the number of adults this option stands for
+         * @return Adult count
+         */
+        public int count() {
+            return Integer.parseInt(label.replaceAll("[^0-9]", ""));
+        }
+
+        /**
+         * Check if this is the currently selected count
+         * @return true if selected
+         */
+        public boolean isSelected() {
+            return cssClass != null && cssClass.contains("selected");
+        }
+    }
+
     private WebDriver driver;
-    private WebDriverWait wait;
+    private AdaptiveWait wait;
     private JavascriptExecutor js;
 
     /**
@@ -35,13 +69,18 @@ public class HotelsPage {
      * @param driver WebDriver instance
      */
     public HotelsPage(WebDriver driver) {
+        this.driver = driver;
+        this.wait = AdaptiveWait.forPage(driver, "HotelsPage", Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
+        this.js = (JavascriptExecutor) driver;
+        PageFactory.initElements(LocatorEngine.factory(driver), this);
+        logger.info("HotelsPage initialized");
     }
     
     /**
      * Wait for page load
      */
     private void waitForPageLoad() {
-       
+        CompositeWait.pageReady(driver, Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
     }
     
     /**
@@ -55,7 +94,9 @@ public class HotelsPage {
      * Click on Rooms & Guests dropdown to open it
      */
     public void openRoomsGuestsDropdown() {
+        try (StepMetrics.Step step = StepMetrics.step("HotelsPage.openRoomsGuestsDropdown")) {
        
+        }
     }
 
     /**
@@ -63,7 +104,9 @@ public class HotelsPage {
      * @return true if hotels page is displayed
      */
     public boolean isHotelsPageDisplayed() {
+        try (StepMetrics.Step step = StepMetrics.step("HotelsPage.isHotelsPageDisplayed")) {
        
+        }
     }
 
     /**
@@ -71,11 +114,42 @@ public class HotelsPage {
      * @return Page title
      */
     public String getPageTitle() {
+        try (StepMetrics.Step step = StepMetrics.step("HotelsPage.getPageTitle")) {
        
+        }
+    }
+
+    /**
+     * Read every adult count option of the open Rooms &amp; Guests dropdown in one script call
+     * @return Options in display order
+     */
+    public List<AdultOption> getAdultOptions() {
+        try (StepMetrics.Step step = StepMetrics.step("HotelsPage.getAdultOptions")) {
+            List<AdultOption> options = DomExtractor.extract(driver, ADULT_COUNT_OPTIONS, AdultOption.class);
+            logger.info("Read " + options.size() + " adult count options");
+            return options;
+        }
+    }
+
+    /**
+     * Extract the adult person numbers from the Rooms &amp; Guests dropdown
+     * @return Adult counts in display order
+     */
+    public List<Integer> getAdultPersonNumbers() {
+        try (StepMetrics.Step step = StepMetrics.step("HotelsPage.getAdultPersonNumbers")) {
+            List<Integer> numbers = new ArrayList<>();
+            for (AdultOption option : getAdultOptions()) {
+                numbers.add(option.count());
+            }
+            logger.info("Adult person numbers: " + numbers);
+            return numbers;
+        }
     }
 
     /**
      * Scroll to top of page
      */
     public void scrollToTop() {
+        try (StepMetrics.Step step = StepMetrics.step("HotelsPage.scrollToTop")) {
+        }
 }
@@ -12,7 +12,10 @@ import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.cts.mmt.utils.AdaptiveWait;
 import com.cts.mmt.utils.ConfigReader;
+import com.cts.mmt.utils.LocatorEngine;
+import com.cts.mmt.utils.StepMetrics;
 
 /**
  * LoginPage - Page Object for Login functionality
@@ -25,7 +28,7 @@ public class LoginPage {
 
     private static final Logger logger = LogManager.getLogger(LoginPage.class);
     private WebDriver driver;
-    private WebDriverWait wait;
+    private AdaptiveWait wait;
     private JavascriptExecutor js;
 
     // ==================== Locators ====================
@@ -39,9 +42,9 @@ public class LoginPage {
      */
     public LoginPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
+        this.wait = AdaptiveWait.forPage(driver, "LoginPage", Duration.ofSeconds(ConfigReader.getInstance().getExplicitWait()));
         this.js = (JavascriptExecutor) driver;
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(LocatorEngine.factory(driver), this);
         logger.info("LoginPage initialized");
     }
 
@@ -50,7 +53,9 @@ public class LoginPage {
      * @param username Username or email
      */
     public void enterUsername(String username) {
+        try (StepMetrics.Step step = StepMetrics.step("LoginPage.enterUsername")) {
        
+        }
     }
 
     /**
@@ -58,13 +63,17 @@ public class LoginPage {
      * @param password Password
      */
     public void enterPassword(String password) {
+        try (StepMetrics.Step step = StepMetrics.step("LoginPage.enterPassword")) {
+        }
     }
 
     /**
      * Click login button
      */
     public void clickLoginButton() {
+        try (StepMetrics.Step step = StepMetrics.step("LoginPage.clickLoginButton")) {
         
+        }
     }
 
     /**
@@ -74,20 +83,25 @@ public class LoginPage {
      * @return HomePage instance
      */
     public HomePage login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
-        logger.info("Login attempted with username: " + username);
-        return new HomePage(driver);
+        try (StepMetrics.Step step = StepMetrics.step("LoginPage.login")) {
+            // Each action times itself
+            enterUsername(username);
+            enterPassword(password);
+            clickLoginButton();
+            logger.info("Login attempted with username: " + username);
+            return new HomePage(driver);
+        }
     }
 
     /**
      * Click on Login link to open login modal
      */
     public void clickLoginLink() {
+        try (StepMetrics.Step step = StepMetrics.step("LoginPage.clickLoginLink")) {
        
 
          
+        }
     }
 
     /**
@@ -95,7 +109,9 @@ public class LoginPage {
      * @return Error message
      */
     public String getErrorMessage() {
+        try (StepMetrics.Step step = StepMetrics.step("LoginPage.getErrorMessage")) {
         
+        }
     }
 
     /**
@@ -103,7 +119,9 @@ public class LoginPage {
      * @return true if error message is displayed
      */
     public boolean isErrorMessageDisplayed() {
+        try (StepMetrics.Step step = StepMetrics.step("LoginPage.isErrorMessageDisplayed")) {
       
+        }
     }
 
     /**
@@ -111,5 +129,7 @@ public class LoginPage {
      * @return true if login page is displayed
      */
     public boolean isLoginPageDisplayed() {
+        try (StepMetrics.Step step = StepMetrics.step("LoginPage.isLoginPageDisplayed")) {
         
+        }
 }
@@ -0,0 +1,268 @@
+package com.cts.mmt.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * AdaptiveTimeouts - History-driven timeouts for named page actions
+ * Records how long each action (e.g. "CabsPage.clickSearch") took to become ready across runs
+ * and derives its timeout from a configurable percentile of that history plus a margin.
+ * Actions without enough history fall back to the caller's default timeout. Timeouts are only
+ * counted, never added to the history, so a wait for something that rarely appears keeps its
+ * timeout instead of growing it run after run. The history lives in history.dir; each fork
+ * merges the samples of its run into the file under a lock, so parallel forks do not overwrite each other
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class AdaptiveTimeouts {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveTimeouts.class);
+    private static final String HISTORY_FILE_NAME = "action-latency.tsv";
+
+    // action -> recent latencies, loaded from the previous runs on first use
+    private static final Map<String, LatencyWindow> history = load(historyFile());
+
+    // action -> what this run recorded, merged into the history file by save()
+    private static final Map<String, Recorded> recorded = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private AdaptiveTimeouts() {
+    }
+
+    /**
+     * Record the observed time an action took to become ready
+     * @param action Action name, e.g. "CabsPage.clickSearch"
+     * @param millis Observed latency in milliseconds
+     */
+    public static void record(String action, long millis) {
+        int size = ConfigReader.getInstance().getTimeoutHistorySize();
+        history.computeIfAbsent(action, name -> new LatencyWindow(size)).add(millis);
+        recorded.computeIfAbsent(action, name -> new Recorded()).add(millis);
+    }
+
+    /**
+     * Count a wait that timed out; it does not change the action's timeout
+     * @param action Action name, e.g. "HomePage.closePopupIfPresent"
+     */
+    public static void recordTimeout(String action) {
+        int size = ConfigReader.getInstance().getTimeoutHistorySize();
+        history.computeIfAbsent(action, name -> new LatencyWindow(size)).timedOut(1);
+        recorded.computeIfAbsent(action, name -> new Recorded()).timedOut();
+    }
+
+    /**
+     * Get how often an action timed out, across runs
+     * @param action Action name
+     * @return Timeouts recorded
+     */
+    public static long timeoutsOf(String action) {
+        LatencyWindow window = history.get(action);
+        return window != null ? window.timeouts() : 0;
+    }
+
+    /**
+     * Get the timeout for an action
+     * percentile(history) * margin factor + margin, clamped to the configured bounds; the history
+     * holds waits that succeeded only
+     * @param action Action name
+     * @param fallback Timeout used until enough history exists
+     * @return Timeout for the action
+     */
+    public static Duration timeoutFor(String action, Duration fallback) {
+        ConfigReader config = ConfigReader.getInstance();
+        LatencyWindow window = history.get(action);
+        if (window == null || window.size() < config.getTimeoutMinSamples()) {
+            return fallback;
+        }
+        long percentile = window.percentile(config.getTimeoutPercentile());
+        long millis = Math.round(percentile * config.getTimeoutMarginFactor()) + config.getTimeoutMarginMillis();
+        millis = Math.max(config.getTimeoutMinMillis(), Math.min(config.getTimeoutMaxMillis(), millis));
+        return Duration.ofMillis(millis);
+    }
+
+    /**
+     * Get the typical time an action takes to become ready, used to pace polling
+     * @param action Action name
+     * @param fallback Value used until enough history exists
+     * @return Median latency of the action
+     */
+    public static Duration expectedLatency(String action, Duration fallback) {
+        LatencyWindow window = history.get(action);
+        if (window == null || window.size() < ConfigReader.getInstance().getTimeoutMinSamples()) {
+            return fallback;
+        }
+        return Duration.ofMillis(window.percentile(50));
+    }
+
+    /**
+     * Merge this run's latencies and timeouts into the history file for the next run
+     * The file is re-read under a lock, so forks saving at the same time each add their own samples
+     */
+    public static void save() {
+        Path file = historyFile();
+        Path lockFile = file.resolveSibling(HISTORY_FILE_NAME + ".lock");
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                Map<String, LatencyWindow> merged = new TreeMap<>(load(file));
+                int size = ConfigReader.getInstance().getTimeoutHistorySize();
+                for (Map.Entry<String, Recorded> entry : recorded.entrySet()) {
+                    entry.getValue().drainInto(merged.computeIfAbsent(entry.getKey(), name -> new LatencyWindow(size)));
+                }
+                Path temp = file.resolveSibling(HISTORY_FILE_NAME + ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    for (Map.Entry<String, LatencyWindow> entry : merged.entrySet()) {
+                        writer.write(entry.getKey() + "\t" + entry.getValue().serialize() + "\t" + entry.getValue().timeouts());
+                        writer.newLine();
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                logger.info("Saved latency history for " + merged.size() + " actions to " + file);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to save action latency history: " + e.getMessage());
+        }
+    }
+
+    private static Path historyFile() {
+        return Paths.get(ConfigReader.getInstance().getHistoryDir(), HISTORY_FILE_NAME);
+    }
+
+    private static Map<String, LatencyWindow> load(Path file) {
+        Map<String, LatencyWindow> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(file)) {
+            return loaded;
+        }
+        int size = ConfigReader.getInstance().getTimeoutHistorySize();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                // action, samples oldest first, timeouts
+                String[] parts = line.split("\t", -1);
+                if (parts.length < 2) {
+                    continue;
+                }
+                LatencyWindow window = new LatencyWindow(size);
+                for (String sample : parts[1].split(",")) {
+                    if (!sample.isBlank()) {
+                        window.add(Long.parseLong(sample.trim()));
+                    }
+                }
+                if (parts.length > 2 && !parts[2].isBlank()) {
+                    window.timedOut(Long.parseLong(parts[2].trim()));
+                }
+                loaded.put(parts[0], window);
+            }
+            logger.info("Loaded latency history for " + loaded.size() + " actions");
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Failed to read action latency history, starting empty: " + e.getMessage());
+        }
+        return loaded;
+    }
+
+    /**
+     * Samples and timeouts of one action in this run, not yet saved
+     */
+    private static final class Recorded {
+        private final List<Long> samples = new ArrayList<>();
+        private long timeouts;
+
+        private synchronized void add(long millis) {
+            samples.add(millis);
+        }
+
+        private synchronized void timedOut() {
+            timeouts++;
+        }
+
+        private synchronized void drainInto(LatencyWindow window) {
+            for (long millis : samples) {
+                window.add(millis);
+            }
+            window.timedOut(timeouts);
+            samples.clear();
+            timeouts = 0;
+        }
+    }
+
+    /**
+     * Fixed-size ring of the most recent latencies of one action
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int next;
+        private int count;
+        private long timeouts;
+
+        private LatencyWindow(int capacity) {
+            this.samples = new long[Math.max(1, capacity)];
+        }
+
+        private synchronized void add(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        private synchronized int size() {
+            return count;
+        }
+
+        private synchronized void timedOut(long times) {
+            timeouts += times;
+        }
+
+        private synchronized long timeouts() {
+            return timeouts;
+        }
+
+        /**
+         * Nearest-rank percentile
+         * @param percentile Percentile between 0 and 100
+         * @return Latency at that percentile
+         */
+        private synchronized long percentile(double percentile) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * count);
+            return sorted[Math.max(0, Math.min(count - 1, rank - 1))];
+        }
+
+        /**
+         * Samples oldest first, comma separated
+         * @return Serialized samples
+         */
+        private synchronized String serialize() {
+            StringBuilder builder = new StringBuilder();
+            int start = count < samples.length ? 0 : next;
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(samples[(start + i) % samples.length]);
+            }
+            return builder.toString();
+        }
+    }
+}
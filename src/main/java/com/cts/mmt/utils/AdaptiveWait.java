@@ -0,0 +1,159 @@
+package com.cts.mmt.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * AdaptiveWait - WebDriverWait for a named page action with a history-driven timeout
+ * The timeout comes from {@link AdaptiveTimeouts} and is looked up per action on every wait, so
+ * one page-wide wait still keeps a separate history for each page method (e.g. "CabsPage.clickSearch").
+ * Polling sleeps through most of the expected time to ready, then polls quickly and backs off.
+ * Every successful wait is recorded so the next run's timeout reflects it; timeouts are counted apart
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class AdaptiveWait extends WebDriverWait {
+
+    private static final long MIN_POLL_MILLIS = 25;
+    private static final long MAX_POLL_MILLIS = 1000;
+    private static final long MAX_FIRST_SLEEP_MILLIS = 2000;
+
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    private final WebDriver driver;
+    // Page name when the action is taken from the calling page method, null for a fixed action
+    private final String page;
+    private final Duration fallback;
+    private final BackoffSleeper sleeper;
+    private String action;
+
+    private AdaptiveWait(WebDriver driver, String page, String action, Duration fallback, BackoffSleeper sleeper) {
+        super(driver, fallback, Duration.ofMillis(MIN_POLL_MILLIS), Clock.systemDefaultZone(), sleeper);
+        this.driver = driver;
+        this.page = page;
+        this.action = action;
+        this.fallback = fallback;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Create a wait for a named page action
+     * @param driver WebDriver instance
+     * @param action Action name, e.g. "CabsPage.clickSearch"
+     * @param fallback Timeout used until the action has enough history
+     * @return Adaptive wait
+     */
+    public static AdaptiveWait forAction(WebDriver driver, String action, Duration fallback) {
+        return new AdaptiveWait(driver, null, action, fallback, new BackoffSleeper());
+    }
+
+    /**
+     * Create a page-wide wait that times each wait under the page method calling it
+     * A wait from CabsPage.clickSearch() is recorded as "CabsPage.clickSearch"
+     * @param driver WebDriver instance
+     * @param page Page name, e.g. "CabsPage"
+     * @param fallback Timeout used until an action has enough history
+     * @return Adaptive wait
+     */
+    public static AdaptiveWait forPage(WebDriver driver, String page, Duration fallback) {
+        return new AdaptiveWait(driver, page, page, fallback, new BackoffSleeper());
+    }
+
+    /**
+     * Create a wait for a named action with this wait's driver and fallback timeout
+     * Use when one page method waits for several things
+     * @param action Action name, e.g. "CabsPage.selectDate.calendar"
+     * @return Adaptive wait
+     */
+    public AdaptiveWait forAction(String action) {
+        return forAction(driver, action, fallback);
+    }
+
+    /**
+     * Wait until the condition holds and record how long it took
+     * A timeout is only counted: it is no latency sample, so it never raises the next timeout
+     * @param isTrue Condition to wait for
+     * @return Value returned by the condition
+     */
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        if (page != null) {
+            action = page + "." + callingMethod();
+        }
+        withTimeout(AdaptiveTimeouts.timeoutFor(action, fallback));
+        sleeper.reset(AdaptiveTimeouts.expectedLatency(action, Duration.ZERO).toMillis());
+        long start = System.nanoTime();
+        try {
+            V value = super.until(isTrue);
+            AdaptiveTimeouts.record(action, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return value;
+        } catch (TimeoutException e) {
+            AdaptiveTimeouts.recordTimeout(action);
+            throw e;
+        } finally {
+            StepMetrics.record("wait:" + action, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get the action this wait was last timed for
+     * @return Action name
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * Name of the first method outside this class and Selenium, with lambda names unwrapped
+     * @return Method name, e.g. "clickSearch"
+     */
+    private static String callingMethod() {
+        String method = STACK.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().equals(AdaptiveWait.class.getName())
+                        && !frame.getClassName().startsWith("org.openqa.selenium."))
+                .findFirst()
+                .map(StackWalker.StackFrame::getMethodName)
+                .orElse("wait"));
+        // lambda$clickSearch$0 -> clickSearch
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', 7);
+            method = end > 7 ? method.substring(7, end) : method;
+        }
+        return method;
+    }
+
+    /**
+     * Sleeps through half the expected latency, then polls from a short interval with 1.5x back-off
+     */
+    private static final class BackoffSleeper implements Sleeper {
+        private long firstSleepMillis;
+        private long nextMillis;
+        private boolean first;
+
+        private void reset(long expectedMillis) {
+            firstSleepMillis = Math.min(MAX_FIRST_SLEEP_MILLIS, expectedMillis / 2);
+            nextMillis = Math.max(MIN_POLL_MILLIS, Math.min(250, expectedMillis / 10));
+            first = true;
+        }
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            if (first && firstSleepMillis > nextMillis) {
+                first = false;
+                Thread.sleep(firstSleepMillis);
+                return;
+            }
+            first = false;
+            Thread.sleep(nextMillis);
+            nextMillis = Math.min(MAX_POLL_MILLIS, nextMillis * 3 / 2);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.cts.mmt.utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Autosuggest - Event-driven selection from a city autosuggest list
+ * Instead of polling the list while the site debounces, an injected MutationObserver resolves
+ * once the suggestions contain the typed prefix and their texts have not changed for
+ * autosuggest.settle.ms. The settled texts are scored with {@link SuggestionMatcher} and the best
+ * one is clicked, so the first complete render is used without fixed sleeps. If the list keeps
+ * changing until the timeout, the suggestions shown at that moment are scored instead
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class Autosuggest {
+
+    private static final Logger logger = LogManager.getLogger(Autosuggest.class);
+
+    private static final String SETTLE_SCRIPT =
+            "var loc = arguments[0], prefix = arguments[1], settleMs = arguments[2], timeoutMs = arguments[3];"
+            + "var done = arguments[arguments.length - 1];"
+            + "function items() {"
+            + "  if (loc.using === 'xpath') {"
+            + "    var snap = document.evaluate(loc.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    var out = []; for (var k = 0; k < snap.snapshotLength; k++) { out.push(snap.snapshotItem(k)); } return out;"
+            + "  }"
+            + "  return Array.prototype.slice.call(document.querySelectorAll(loc.value));"
+            + "}"
+            + "function text(el) { return (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim(); }"
+            + "function matches(el) {"
+            + "  return text(el).toLowerCase().split(/[^\\p{L}\\p{N}]+/u).some(function (t) { return t.indexOf(prefix) === 0; });"
+            + "}"
+            + "var finished = false, settle = null, deadline = null, observer = null, shown = null;"
+            + "function finish(timedOut) {"
+            + "  if (finished) { return; } finished = true;"
+            + "  if (observer) { observer.disconnect(); } clearTimeout(settle); clearTimeout(deadline);"
+            + "  var els = items();"
+            + "  done({timedOut: timedOut, elements: els, texts: els.map(text)});"
+            + "}"
+            // Mutations elsewhere on the page (ads, timers) only restart the settle timer if the suggestions changed
+            + "function check() {"
+            + "  var els = items();"
+            + "  var now = els.length > 0 && els.some(matches) ? els.map(text).join('\\n') : null;"
+            + "  if (now === shown) { return; }"
+            + "  shown = now; clearTimeout(settle);"
+            + "  if (now !== null) { settle = setTimeout(function () { finish(false); }, settleMs); }"
+            + "}"
+            + "observer = new MutationObserver(check);"
+            + "observer.observe(document.body, {childList: true, subtree: true, characterData: true});"
+            + "deadline = setTimeout(function () { finish(true); }, timeoutMs);"
+            + "check();";
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private Autosuggest() {
+    }
+
+    /**
+     * Wait for the suggestions of the typed text to settle and click the one matching the target
+     * @param driver WebDriver instance
+     * @param suggestions CSS or XPath locator of the suggestion entries
+     * @param target Wanted suggestion, e.g. "Manali" or "Manali, Himachal Pradesh"; its first word must have been typed
+     * @param timeout Maximum time to wait for matching suggestions
+     * @return Text of the selected suggestion
+     * @throws TimeoutException if no matching suggestion is shown in time
+     * @throws NoSuchElementException if no settled suggestion scores autosuggest.min.score
+     */
+    public static String select(WebDriver driver, By suggestions, String target, Duration timeout) {
+        ConfigReader config = ConfigReader.getInstance();
+        SuggestionMatcher matcher = new SuggestionMatcher(target);
+
+        long start = System.nanoTime();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(SETTLE_SCRIPT,
+                CompositeWait.locatorArgument(suggestions), matcher.prefix(),
+                config.getAutosuggestSettleMs(), timeout.toMillis());
+        StepMetrics.record("autosuggest:settle", System.nanoTime() - start);
+
+        @SuppressWarnings("unchecked")
+        List<String> texts = (List<String>) result.get("texts");
+        @SuppressWarnings("unchecked")
+        List<WebElement> elements = (List<WebElement>) result.get("elements");
+        boolean timedOut = Boolean.TRUE.equals(result.get("timedOut"));
+
+        int best = matcher.bestOf(texts, config.getAutosuggestMinScore());
+        if (timedOut && best < 0) {
+            throw new TimeoutException("No suggestion for '" + matcher.prefix() + "' settled within "
+                    + timeout.toMillis() + " ms, showing " + texts);
+        }
+        if (timedOut) {
+            logger.warn("Suggestions for '" + matcher.prefix() + "' still changing after " + timeout.toMillis()
+                    + " ms, using the current list " + texts);
+        }
+        if (best < 0) {
+            throw new NoSuchElementException("No suggestion matches '" + target + "' among " + texts);
+        }
+        elements.get(best).click();
+        logger.info("Selected suggestion '" + texts.get(best) + "' for '" + target + "'");
+        return texts.get(best);
+    }
+}
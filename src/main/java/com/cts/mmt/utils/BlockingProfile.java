@@ -0,0 +1,181 @@
+package com.cts.mmt.utils;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BlockingProfile - Named set of requests a test does not need, e.g. "fast"
+ * Defined in config as comma separated rules:
+ * <pre>
+ * network.block.profile.fast=type:image,type:font,domain:google-analytics.com
+ * network.block.class.HotelPageTest=fast
+ * </pre>
+ * "type:" rules match by file extension (image, font, media, script, stylesheet) and
+ * "domain:" rules match a host and its sub-domains
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public final class BlockingProfile {
+
+    /**
+     * Profile that blocks nothing
+     */
+    public static final BlockingProfile NONE = new BlockingProfile("none", Set.of(), List.of());
+
+    private static final String PROFILE_PREFIX = "network.block.profile.";
+    private static final String CLASS_PREFIX = "network.block.class.";
+
+    private static final Map<String, Set<String>> TYPE_EXTENSIONS = Map.of(
+            "image", Set.of("png", "jpg", "jpeg", "gif", "webp", "svg", "ico", "avif", "bmp"),
+            "font", Set.of("woff", "woff2", "ttf", "otf", "eot"),
+            "media", Set.of("mp4", "webm", "mp3", "ogg", "wav", "m3u8"),
+            "script", Set.of("js", "mjs"),
+            "stylesheet", Set.of("css"));
+
+    private static final Map<String, BlockingProfile> profiles = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Set<String> types;
+    private final List<String> domains;
+
+    private BlockingProfile(String name, Set<String> types, List<String> domains) {
+        this.name = name;
+        this.types = types;
+        this.domains = domains;
+    }
+
+    /**
+     * Get a configured profile
+     * @param name Profile name
+     * @return Profile, {@link #NONE} for "none" or an empty name
+     */
+    public static BlockingProfile forName(String name) {
+        if (name == null || name.isBlank() || NONE.name.equalsIgnoreCase(name.trim())) {
+            return NONE;
+        }
+        return profiles.computeIfAbsent(name.trim(), BlockingProfile::parse);
+    }
+
+    /**
+     * Get the profile configured for a test class, falling back to network.block.default
+     * @param testClass Test class
+     * @return Profile for the class
+     */
+    public static BlockingProfile forTestClass(Class<?> testClass) {
+        ConfigReader config = ConfigReader.getInstance();
+        String name = config.getPropertiesWithPrefix(CLASS_PREFIX).get(testClass.getSimpleName());
+        return forName(name != null ? name : config.getNetworkBlockDefault());
+    }
+
+    /**
+     * Check if any test class can get a blocking profile
+     * @return true if a default or per-class profile is configured
+     */
+    public static boolean isAnyConfigured() {
+        ConfigReader config = ConfigReader.getInstance();
+        return forName(config.getNetworkBlockDefault()) != NONE
+                || !config.getPropertiesWithPrefix(CLASS_PREFIX).isEmpty();
+    }
+
+    /**
+     * Find the rule a request URL falls under
+     * @param uri Request URL
+     * @return Key of the matching rule ("type:image", "host:www.google-analytics.com"), or null if allowed
+     */
+    public String match(URI uri) {
+        if (this == NONE) {
+            return null;
+        }
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+        for (String domain : domains) {
+            if (host.equals(domain) || host.endsWith("." + domain)) {
+                return "host:" + host;
+            }
+        }
+        String type = typeOf(uri);
+        return type != null && types.contains(type) ? "type:" + type : null;
+    }
+
+    /**
+     * Get the rules as DevTools URL patterns, for Network.setBlockedURLs
+     * A domain becomes "*://host/*" and "*://*.host/*", a type one "*.ext" and "*.ext?*" per extension
+     * @return Patterns, empty for {@link #NONE}
+     */
+    public List<String> toUrlPatterns() {
+        List<String> patterns = new ArrayList<>();
+        for (String domain : domains) {
+            patterns.add("*://" + domain + "/*");
+            patterns.add("*://*." + domain + "/*");
+        }
+        for (String type : types) {
+            for (String extension : TYPE_EXTENSIONS.get(type)) {
+                patterns.add("*." + extension);
+                patterns.add("*." + extension + "?*");
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Get the resource type of a URL from its extension
+     * @param uri Request URL
+     * @return image, font, media, script, stylesheet, or null if unknown
+     */
+    public static String typeOf(URI uri) {
+        String path = uri.getPath();
+        if (path == null) {
+            return null;
+        }
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || dot < path.lastIndexOf('/')) {
+            return null;
+        }
+        String extension = path.substring(dot + 1).toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, Set<String>> entry : TYPE_EXTENSIONS.entrySet()) {
+            if (entry.getValue().contains(extension)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the profile name
+     * @return Name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static BlockingProfile parse(String name) {
+        String definition = ConfigReader.getInstance().getPropertiesWithPrefix(PROFILE_PREFIX).get(name);
+        if (definition == null) {
+            throw new RuntimeException("Blocking profile not defined: " + PROFILE_PREFIX + name);
+        }
+        Set<String> types = new HashSet<>();
+        List<String> domains = new ArrayList<>();
+        for (String rule : definition.split(",")) {
+            String trimmed = rule.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.startsWith("type:") && TYPE_EXTENSIONS.containsKey(trimmed.substring(5))) {
+                types.add(trimmed.substring(5));
+            } else if (trimmed.startsWith("domain:")) {
+                domains.add(trimmed.substring(7));
+            } else if (!trimmed.isEmpty()) {
+                throw new RuntimeException("Invalid rule '" + rule + "' in blocking profile " + name);
+            }
+        }
+        return new BlockingProfile(name, Set.copyOf(types), List.copyOf(domains));
+    }
+}
@@ -0,0 +1,184 @@
+package com.cts.mmt.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * CommandProfiler - Counts and times every WebDriver command issued by the running test
+ * Browsers are wrapped once with {@link #decorate(WebDriver)}; a test thread then brackets its
+ * test with {@link #start()} and {@link #stop()}. Commands outside a started profile (pool
+ * probes, session resets) are not attributed to any test. Every command's latency also feeds
+ * {@link StepMetrics} as "driver:&lt;command&gt;"
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public final class CommandProfiler implements WebDriverListener {
+
+    private static final CommandProfiler INSTANCE = new CommandProfiler();
+
+    // Calls answered by the client without a round trip to the browser, keyed by declaring type so
+    // that e.g. Options.window() is local but TargetLocator.window(handle) is counted
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            key(WebDriver.class, "manage"), key(WebDriver.class, "navigate"), key(WebDriver.class, "switchTo"),
+            key(WebDriver.Options.class, "timeouts"), key(WebDriver.Options.class, "window"),
+            key(WebDriver.Options.class, "logs"),
+            key(WrapsDriver.class, "getWrappedDriver"), key(WrapsElement.class, "getWrappedElement"),
+            key(HasCapabilities.class, "getCapabilities"), key(RemoteWebDriver.class, "getSessionId"),
+            key(Object.class, "toString"), key(Object.class, "hashCode"), key(Object.class, "equals"));
+
+    private static final ThreadLocal<Profile> current = new ThreadLocal<>();
+
+    private CommandProfiler() {
+    }
+
+    /**
+     * Wrap a browser so its commands are profiled
+     * @param driver Raw WebDriver
+     * @return Decorated WebDriver implementing the same interfaces
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<WebDriver>(INSTANCE).decorate(driver);
+    }
+
+    /**
+     * Start a fresh profile for the test running on this thread
+     */
+    public static void start() {
+        current.set(new Profile());
+    }
+
+    /**
+     * Stop profiling on this thread
+     * @return Profile of the finished test, or null if none was started
+     */
+    public static Profile stop() {
+        Profile profile = current.get();
+        current.remove();
+        return profile;
+    }
+
+    /**
+     * Run an action whose commands must not count against the test, e.g. a pool liveness probe
+     * @param action Action to run
+     * @return Value returned by the action
+     */
+    public static <T> T untracked(Supplier<T> action) {
+        Profile profile = current.get();
+        if (profile == null) {
+            return action.get();
+        }
+        profile.suspended++;
+        try {
+            return action.get();
+        } finally {
+            profile.suspended--;
+        }
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        Profile profile = current.get();
+        if (profile != null) {
+            profile.starts.push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        complete(target, method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        complete(target, method);
+    }
+
+    private static void complete(Object target, Method method) {
+        Profile profile = current.get();
+        if (profile == null || profile.starts.isEmpty()) {
+            return;
+        }
+        long nanos = System.nanoTime() - profile.starts.pop();
+        if (profile.suspended > 0 || LOCAL_CALLS.contains(key(method.getDeclaringClass(), method.getName()))) {
+            return;
+        }
+        String command = (target instanceof WebElement ? "element." : "") + method.getName();
+        profile.add(command, nanos);
+        StepMetrics.record("driver:" + command, nanos);
+    }
+
+    private static String key(Class<?> type, String method) {
+        return type.getName() + "#" + method;
+    }
+
+    /**
+     * Commands issued by one test - confined to the test thread
+     */
+    public static final class Profile {
+        private final Map<String, long[]> commands = new HashMap<>();
+        private final Deque<Long> starts = new ArrayDeque<>();
+        private int suspended;
+        private int count;
+        private long nanos;
+
+        private void add(String command, long elapsed) {
+            long[] totals = commands.computeIfAbsent(command, name -> new long[2]);
+            totals[0]++;
+            totals[1] += elapsed;
+            count++;
+            nanos += elapsed;
+        }
+
+        /**
+         * Get the number of WebDriver round trips
+         * @return Command count
+         */
+        public int getCommandCount() {
+            return count;
+        }
+
+        /**
+         * Get the time spent waiting on WebDriver commands
+         * @return Total command time in milliseconds
+         */
+        public long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+
+        /**
+         * Get a one-line breakdown, most frequent commands first
+         * @return e.g. "14 commands in 820 ms (findElement x5, element.click x3, ...)"
+         */
+        public String getSummary() {
+            List<Map.Entry<String, long[]>> entries = new ArrayList<>(commands.entrySet());
+            entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+            StringBuilder summary = new StringBuilder()
+                    .append(count).append(" commands in ").append(getTotalMillis()).append(" ms");
+            for (int i = 0; i < entries.size(); i++) {
+                Map.Entry<String, long[]> entry = entries.get(i);
+                summary.append(i == 0 ? " (" : ", ").append(entry.getKey()).append(" x").append(entry.getValue()[0])
+                        .append(" / ").append(TimeUnit.NANOSECONDS.toMillis(entry.getValue()[1])).append(" ms");
+            }
+            return entries.isEmpty() ? summary.toString() : summary.append(')').toString();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.cts.mmt.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * CompositeWait - Evaluates several wait conditions in one injected script per poll
+ * A single executeScript call checks ready state, element presence/visibility/clickability,
+ * overlays and text, and reports which condition is still pending. This replaces separate
+ * readyState polls followed by ExpectedConditions round trips
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class CompositeWait {
+
+    private static final Logger logger = LogManager.getLogger(CompositeWait.class);
+
+    private static final String EVALUATE_SCRIPT =
+            "var conds = arguments[0];"
+            + "function all(c) {"
+            + "  if (c.using === 'xpath') {"
+            + "    var snap = document.evaluate(c.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    var out = []; for (var k = 0; k < snap.snapshotLength; k++) { out.push(snap.snapshotItem(k)); } return out;"
+            + "  }"
+            + "  return Array.prototype.slice.call(document.querySelectorAll(c.value));"
+            + "}"
+            + "function first(c) {"
+            + "  if (c.using === 'xpath') {"
+            + "    return document.evaluate(c.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  }"
+            + "  return document.querySelector(c.value);"
+            + "}"
+            + "function visible(el) {"
+            + "  if (!el) { return false; }"
+            + "  var r = el.getBoundingClientRect(); var s = window.getComputedStyle(el);"
+            + "  return r.width > 0 && r.height > 0 && s.visibility !== 'hidden' && s.display !== 'none';"
+            + "}"
+            + "var element = null;"
+            + "for (var i = 0; i < conds.length; i++) {"
+            + "  var c = conds[i]; var ok = false; var e = null;"
+            + "  switch (c.type) {"
+            + "    case 'READY': ok = document.readyState === 'complete'; break;"
+            + "    case 'PRESENT': e = first(c); ok = !!e; break;"
+            + "    case 'VISIBLE': e = first(c); ok = visible(e); break;"
+            + "    case 'CLICKABLE': e = first(c); ok = visible(e) && !e.disabled && e.getAttribute('aria-disabled') !== 'true'; break;"
+            + "    case 'NO_OVERLAY': ok = !all(c).some(visible); break;"
+            + "    case 'TEXT': e = first(c); ok = !!e && new RegExp(c.pattern).test(e.textContent); break;"
+            + "  }"
+            + "  if (!ok) { return {pending: i, element: null}; }"
+            + "  if (e) { element = e; }"
+            + "}"
+            + "return {pending: -1, element: element};";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final List<Condition> conditions = new ArrayList<>();
+
+    /**
+     * Create a composite wait
+     * @param driver WebDriver instance
+     * @param timeout Maximum time to wait for all conditions
+     */
+    public CompositeWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Add conditions; they are evaluated in order and all must hold in the same poll
+     * @param more Conditions to add
+     * @return This wait
+     */
+    public CompositeWait require(Condition... more) {
+        conditions.addAll(List.of(more));
+        return this;
+    }
+
+    /**
+     * Poll until every condition holds
+     * @return Element matched by the last element condition, or null if there was none
+     * @throws org.openqa.selenium.TimeoutException naming the condition still pending
+     */
+    public WebElement await() {
+        List<Map<String, Object>> payload = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            payload.add(condition.toScriptArgument());
+        }
+
+        int[] pending = {0};
+        WebDriverWait wait = new WebDriverWait(driver, timeout);
+        wait.withMessage(() -> "still waiting for " + conditions.get(pending[0]));
+        Object[] matched = new Object[1];
+        long start = System.nanoTime();
+        wait.until(d -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) d).executeScript(EVALUATE_SCRIPT, payload);
+            int index = ((Number) result.get("pending")).intValue();
+            if (index >= 0) {
+                pending[0] = index;
+                return false;
+            }
+            matched[0] = result.get("element");
+            return true;
+        });
+        StepMetrics.record(stepName(), System.nanoTime() - start);
+        logger.debug("Conditions met: " + conditions);
+        return (WebElement) matched[0];
+    }
+
+    /**
+     * Metrics step name, keyed by condition types so locators do not inflate the number of steps
+     * @return e.g. "wait:composite[READY,CLICKABLE]"
+     */
+    private String stepName() {
+        StringBuilder name = new StringBuilder("wait:composite[");
+        for (int i = 0; i < conditions.size(); i++) {
+            name.append(i > 0 ? "," : "").append(conditions.get(i).type);
+        }
+        return name.append(']').toString();
+    }
+
+    /**
+     * Wait until the document has finished loading
+     * @param driver WebDriver instance
+     * @param timeout Maximum time to wait
+     */
+    public static void pageReady(WebDriver driver, Duration timeout) {
+        new CompositeWait(driver, timeout).require(Condition.readyState()).await();
+    }
+
+    /**
+     * Wait until the page is loaded and the element is visible and enabled, in one round trip per poll
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @param timeout Maximum time to wait
+     * @return Clickable element
+     */
+    public static WebElement clickable(WebDriver driver, By locator, Duration timeout) {
+        return new CompositeWait(driver, timeout)
+                .require(Condition.readyState(), Condition.clickable(locator))
+                .await();
+    }
+
+    /**
+     * Serialize a locator for injected scripts, which resolve it with querySelectorAll or document.evaluate
+     * @param locator CSS or XPath locator
+     * @return Map with "using" and "value"
+     * @throws IllegalArgumentException for other locator types
+     */
+    static Map<String, Object> locatorArgument(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in script: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String using = parameters.using();
+        if (!"css selector".equals(using) && !"xpath".equals(using)) {
+            throw new IllegalArgumentException("Only CSS and XPath locators are supported: " + locator);
+        }
+        Map<String, Object> argument = new LinkedHashMap<>();
+        argument.put("using", using);
+        argument.put("value", String.valueOf(parameters.value()));
+        return argument;
+    }
+
+    /**
+     * Single wait condition, serialized into the injected script
+     */
+    public static final class Condition {
+        private final String type;
+        private final By locator;
+        private final String pattern;
+
+        private Condition(String type, By locator, String pattern) {
+            this.type = type;
+            this.locator = locator;
+            this.pattern = pattern;
+        }
+
+        /**
+         * document.readyState is complete
+         * @return Condition
+         */
+        public static Condition readyState() {
+            return new Condition("READY", null, null);
+        }
+
+        /**
+         * Element exists in the DOM
+         * @param locator Element locator
+         * @return Condition
+         */
+        public static Condition present(By locator) {
+            return new Condition("PRESENT", locator, null);
+        }
+
+        /**
+         * Element is displayed with a non-empty box
+         * @param locator Element locator
+         * @return Condition
+         */
+        public static Condition visible(By locator) {
+            return new Condition("VISIBLE", locator, null);
+        }
+
+        /**
+         * Element is visible and not disabled
+         * @param locator Element locator
+         * @return Condition
+         */
+        public static Condition clickable(By locator) {
+            return new Condition("CLICKABLE", locator, null);
+        }
+
+        /**
+         * No element matching the locator (e.g. a modal backdrop or loader) is visible
+         * @param locator Overlay locator
+         * @return Condition
+         */
+        public static Condition noOverlay(By locator) {
+            return new Condition("NO_OVERLAY", locator, null);
+        }
+
+        /**
+         * Element text matches a JavaScript regular expression
+         * @param locator Element locator
+         * @param regex Regular expression
+         * @return Condition
+         */
+        public static Condition textMatches(By locator, String regex) {
+            return new Condition("TEXT", locator, regex);
+        }
+
+        private Map<String, Object> toScriptArgument() {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            argument.put("type", type);
+            if (locator != null) {
+                argument.putAll(locatorArgument(locator));
+            }
+            if (pattern != null) {
+                argument.put("pattern", pattern);
+            }
+            return argument;
+        }
+
+        @Override
+        public String toString() {
+            return type + (locator != null ? " " + locator : "") + (pattern != null ? " /" + pattern + "/" : "");
+        }
+    }
+}
@@ -1,39 +1,177 @@
 package com.cts.mmt.utils;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * ConfigReader - Utility class to read configuration properties from config.properties file
- * Implements Singleton pattern to ensure single instance throughout the framework
- * 
+ * ConfigReader - Typed, immutable configuration snapshot for the framework
+ * Built once per JVM from these layers, each overriding the previous one:
+ * <ol>
+ *   <li>built-in defaults</li>
+ *   <li>config.properties on the classpath</li>
+ *   <li>profile files config-&lt;profile&gt;.properties (profile from -Dprofile, MMT_PROFILE or the files above)</li>
+ *   <li>environment variables with the MMT_ prefix, e.g. MMT_EXPLICIT_WAIT for explicit.wait</li>
+ *   <li>-D system properties for known keys</li>
+ * </ol>
+ * All values are parsed up front into final fields and the instance is published through a
+ * class holder, so concurrent readers never lock or re-parse
+ *
  * @author CTS Automation Team
  * @version 1.0
  */
-public class ConfigReader {
+public final class ConfigReader {
 
     private static final Logger logger = LogManager.getLogger(ConfigReader.class);
-    private static Properties properties;
-    private static ConfigReader configReader;
-    private static final String CONFIG_FILE_PATH = "src/test/resources/config.properties";
+    private static final String CONFIG_FILE = "config.properties";
+    private static final String FALLBACK_CONFIG_DIR = "src/test/resources/";
+    private static final String ENV_PREFIX = "MMT_";
+
+    // Layer 1 - built-in defaults
+    private static final Map<String, String> DEFAULTS = defaults();
+
+    private final Map<String, String> properties;
+
+    // Typed values, parsed once
+    private final String browser;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int implicitWait;
+    private final int explicitWait;
+    private final int pageLoadTimeout;
+    private final int shortWait;
+    private final double timeoutPercentile;
+    private final double timeoutMarginFactor;
+    private final long timeoutMarginMillis;
+    private final long timeoutMinMillis;
+    private final long timeoutMaxMillis;
+    private final int timeoutMinSamples;
+    private final int timeoutHistorySize;
+    private final boolean headless;
+    private final int driverPoolSize;
+    private final int driverPoolWarmUp;
+    private final int driverMaxAgeMinutes;
+    private final int driverMaxUses;
+    private final int driverPoolLeaseTimeout;
+    private final String sessionResetMode;
+    private final int screenshotPipelineThreads;
+    private final int screenshotPipelineQueueSize;
+    private final int screenshotPipelineDrainTimeout;
+    private final String screenshotFormat;
+    private final float screenshotJpegQuality;
+    private final int screenshotMaxWidth;
+    private final int screenshotStoreMaxSizeMb;
+    private final int screenshotStoreMaxAgeDays;
+    private final String reportMode;
+    private final String reportAttachmentMode;
+    private final boolean driverProfiling;
+    private final boolean fixturesEnabled;
+    private final String fixturesDir;
+    private final int fixturesPort;
+    private final String httpCacheMode;
+    private final String httpCacheDir;
+    private final String httpCacheInclude;
+    private final String networkBlockDefault;
+    private final int autosuggestSettleMs;
+    private final double autosuggestMinScore;
+    private final String shardResults;
+    private final int shardDefaultMillis;
+    private final String historyDir;
+    private final int shardHistoryRuns;
+    private final boolean orderFailureFirst;
+    private final int orderHistoryRuns;
+    private final int retryMaxAttempts;
+    private final int retryBudget;
+    private final boolean quarantineEnabled;
+    private final int quarantineHistoryRuns;
+    private final int quarantineMinFlips;
+    private final boolean quarantineFailBuild;
+    private final boolean logAsync;
+    private final int logBatchSize;
+    private final int logFlushTimeout;
+
+    /**
+     * Lazy, lock-free holder of the singleton snapshot
+     */
+    private static final class Holder {
+        private static final ConfigReader INSTANCE = new ConfigReader(load());
+    }
 
     /**
      * Private constructor to prevent instantiation
-     * Loads properties from config file
+     * Parses every known setting from the merged properties
+     * @param properties Merged configuration layers
      */
-    private ConfigReader() {
-        properties = new Properties();
-        try (FileInputStream fis = new FileInputStream(CONFIG_FILE_PATH)) {
-            properties.load(fis);
-            logger.info("Configuration file loaded successfully from: " + CONFIG_FILE_PATH);
-        } catch (IOException e) {
-            logger.error("Failed to load configuration file: " + e.getMessage());
-            throw new RuntimeException("Could not load config.properties file", e);
-        }
+    private ConfigReader(Map<String, String> properties) {
+        this.properties = properties;
+        this.browser = properties.get("browser");
+        this.url = properties.get("url");
+        this.username = properties.get("username");
+        this.password = properties.get("password");
+        this.implicitWait = parseInt("implicit.wait");
+        this.explicitWait = parseInt("explicit.wait");
+        this.pageLoadTimeout = parseInt("page.load.timeout");
+        this.shortWait = parseInt("short.wait");
+        this.timeoutPercentile = parseFloat("timeout.percentile");
+        this.timeoutMarginFactor = parseFloat("timeout.margin.factor");
+        this.timeoutMarginMillis = parseInt("timeout.margin.ms");
+        this.timeoutMinMillis = parseInt("timeout.min.ms");
+        this.timeoutMaxMillis = parseInt("timeout.max.ms");
+        this.timeoutMinSamples = parseInt("timeout.min.samples");
+        this.timeoutHistorySize = parseInt("timeout.history.size");
+        this.headless = Boolean.parseBoolean(properties.get("headless"));
+        this.driverPoolSize = parseInt("driver.pool.size");
+        this.driverPoolWarmUp = parseInt("driver.pool.warmup");
+        this.driverMaxAgeMinutes = parseInt("driver.pool.max.age.minutes");
+        this.driverMaxUses = parseInt("driver.pool.max.uses");
+        this.driverPoolLeaseTimeout = parseInt("driver.pool.lease.timeout");
+        this.sessionResetMode = properties.get("driver.session.reset");
+        this.screenshotPipelineThreads = parseInt("screenshot.pipeline.threads");
+        this.screenshotPipelineQueueSize = parseInt("screenshot.pipeline.queue.size");
+        this.screenshotPipelineDrainTimeout = parseInt("screenshot.pipeline.drain.timeout");
+        this.screenshotFormat = properties.get("screenshot.format");
+        this.screenshotJpegQuality = parseFloat("screenshot.jpeg.quality");
+        this.screenshotMaxWidth = parseInt("screenshot.max.width");
+        this.screenshotStoreMaxSizeMb = parseInt("screenshot.store.max.size.mb");
+        this.screenshotStoreMaxAgeDays = parseInt("screenshot.store.max.age.days");
+        this.reportMode = properties.get("report.mode");
+        this.reportAttachmentMode = properties.get("report.attachments");
+        this.driverProfiling = Boolean.parseBoolean(properties.get("driver.profiling"));
+        this.fixturesEnabled = Boolean.parseBoolean(properties.get("fixtures.enabled"));
+        this.fixturesDir = properties.get("fixtures.dir");
+        this.fixturesPort = parseInt("fixtures.port");
+        this.httpCacheMode = properties.get("http.cache.mode");
+        this.httpCacheDir = properties.get("http.cache.dir");
+        this.httpCacheInclude = properties.get("http.cache.include");
+        this.networkBlockDefault = properties.get("network.block.default");
+        this.autosuggestSettleMs = parseInt("autosuggest.settle.ms");
+        this.autosuggestMinScore = parseFloat("autosuggest.min.score");
+        this.shardResults = properties.get("shard.results");
+        this.shardDefaultMillis = parseInt("shard.default.ms");
+        this.historyDir = properties.get("history.dir");
+        this.shardHistoryRuns = parseInt("shard.history.runs");
+        this.orderFailureFirst = Boolean.parseBoolean(properties.get("order.failure.first"));
+        this.orderHistoryRuns = parseInt("order.history.runs");
+        this.retryMaxAttempts = parseInt("retry.max.attempts");
+        this.retryBudget = parseInt("retry.budget");
+        this.quarantineEnabled = Boolean.parseBoolean(properties.get("quarantine.enabled"));
+        this.quarantineHistoryRuns = parseInt("quarantine.history.runs");
+        this.quarantineMinFlips = parseInt("quarantine.min.flips");
+        this.quarantineFailBuild = Boolean.parseBoolean(properties.get("quarantine.fail.build"));
+        this.logAsync = Boolean.parseBoolean(properties.get("log.async"));
+        this.logBatchSize = parseInt("log.batch.size");
+        this.logFlushTimeout = parseInt("log.flush.timeout");
     }
 
     /**
@@ -41,14 +179,170 @@ public class ConfigReader {
      * @return ConfigReader instance
      */
     public static ConfigReader getInstance() {
-        if (configReader == null) {
-            synchronized (ConfigReader.class) {
-                if (configReader == null) {
-                    configReader = new ConfigReader();
+        return Holder.INSTANCE;
+    }
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("browser", "chrome");
+        defaults.put("headless", "false");
+        defaults.put("implicit.wait", "10");
+        defaults.put("explicit.wait", "20");
+        defaults.put("page.load.timeout", "30");
+        defaults.put("short.wait", "1");
+        defaults.put("timeout.percentile", "95");
+        defaults.put("timeout.margin.factor", "1.5");
+        defaults.put("timeout.margin.ms", "250");
+        defaults.put("timeout.min.ms", "500");
+        defaults.put("timeout.max.ms", "30000");
+        defaults.put("timeout.min.samples", "5");
+        defaults.put("timeout.history.size", "50");
+        defaults.put("driver.pool.size", "4");
+        defaults.put("driver.pool.warmup", "2");
+        defaults.put("driver.pool.max.age.minutes", "30");
+        defaults.put("driver.pool.max.uses", "50");
+        defaults.put("driver.pool.lease.timeout", "120");
+        defaults.put("driver.session.reset", "fast");
+        defaults.put("screenshot.pipeline.threads", "2");
+        defaults.put("screenshot.pipeline.queue.size", "16");
+        defaults.put("screenshot.pipeline.drain.timeout", "60");
+        defaults.put("screenshot.format", "png");
+        defaults.put("screenshot.jpeg.quality", "0.8");
+        defaults.put("screenshot.max.width", "0");
+        defaults.put("screenshot.store.max.size.mb", "500");
+        defaults.put("screenshot.store.max.age.days", "14");
+        defaults.put("report.mode", "standard");
+        defaults.put("report.attachments", "external");
+        defaults.put("driver.profiling", "true");
+        defaults.put("fixtures.enabled", "false");
+        defaults.put("fixtures.dir", "src/test/resources/fixtures");
+        defaults.put("fixtures.port", "0");
+        defaults.put("http.cache.mode", "off");
+        defaults.put("http.cache.dir", "test-output/http-cache");
+        defaults.put("http.cache.include", "https?://.*\\.(js|css|woff2?|ttf|otf|png|jpe?g|gif|svg|webp|ico)(\\?.*)?");
+        defaults.put("network.block.default", "none");
+        defaults.put("autosuggest.settle.ms", "150");
+        defaults.put("autosuggest.min.score", "0.6");
+        defaults.put("shard.results", "target/surefire-reports,test-output");
+        defaults.put("shard.default.ms", "60000");
+        defaults.put("history.dir", "test-output/history/runs");
+        defaults.put("shard.history.runs", "5");
+        defaults.put("order.failure.first", "true");
+        defaults.put("order.history.runs", "5");
+        defaults.put("retry.max.attempts", "1");
+        defaults.put("retry.budget", "5");
+        defaults.put("quarantine.enabled", "true");
+        defaults.put("quarantine.history.runs", "10");
+        defaults.put("quarantine.min.flips", "2");
+        defaults.put("quarantine.fail.build", "false");
+        defaults.put("log.async", "true");
+        defaults.put("log.batch.size", "256");
+        defaults.put("log.flush.timeout", "10");
+        return defaults;
+    }
+
+    /**
+     * Merge all configuration layers
+     * @return Immutable merged properties
+     */
+    private static Map<String, String> load() {
+        Map<String, String> merged = new LinkedHashMap<>(DEFAULTS);
+
+        // Layer 2 - classpath file
+        if (!loadResource(CONFIG_FILE, merged, true)) {
+            throw new RuntimeException("Could not load " + CONFIG_FILE + " from the classpath or " + FALLBACK_CONFIG_DIR);
+        }
+
+        // Layer 3 - profile files
+        String profiles = firstNonNull(System.getProperty("profile"), System.getenv(ENV_PREFIX + "PROFILE"), merged.get("profile"));
+        if (profiles != null) {
+            for (String profile : profiles.split(",")) {
+                String profileFile = "config-" + profile.trim() + ".properties";
+                if (!loadResource(profileFile, merged, false)) {
+                    logger.warn("Configuration profile not found: " + profileFile);
+                }
+            }
+        }
+
+        // Layer 4 - environment variables, MMT_EXPLICIT_WAIT -> explicit.wait
+        for (Map.Entry<String, String> env : System.getenv().entrySet()) {
+            if (env.getKey().startsWith(ENV_PREFIX) && !env.getKey().equals(ENV_PREFIX + "PROFILE")) {
+                String key = env.getKey().substring(ENV_PREFIX.length()).toLowerCase(Locale.ROOT).replace('_', '.');
+                merged.put(key, env.getValue());
+            }
+        }
+
+        // Layer 5 - system properties, only for keys the framework knows about
+        for (String key : merged.keySet()) {
+            String value = System.getProperty(key);
+            if (value != null) {
+                merged.put(key, value);
+            }
+        }
+
+        logger.info("Configuration loaded" + (profiles != null ? " with profile(s): " + profiles : ""));
+        return Collections.unmodifiableMap(merged);
+    }
+
+    /**
+     * Load a properties resource from the classpath, falling back to the source tree
+     * @param name Resource name
+     * @param target Map to merge into
+     * @param required true to log an error if it cannot be read
+     * @return true if the resource was loaded
+     */
+    private static boolean loadResource(String name, Map<String, String> target, boolean required) {
+        Properties properties = new Properties();
+        try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(name)) {
+            if (in != null) {
+                properties.load(in);
+            } else {
+                Path fallback = Paths.get(FALLBACK_CONFIG_DIR, name);
+                if (!Files.exists(fallback)) {
+                    return false;
+                }
+                try (InputStream fileIn = Files.newInputStream(fallback)) {
+                    properties.load(fileIn);
                 }
             }
+        } catch (IOException e) {
+            if (required) {
+                logger.error("Failed to load configuration file: " + e.getMessage());
+            }
+            return false;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            target.put(key, properties.getProperty(key));
+        }
+        logger.info("Configuration file loaded successfully: " + name);
+        return true;
+    }
+
+    private static String firstNonNull(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private int parseInt(String key) {
+        String value = properties.get(key);
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid integer for configuration key " + key + ": " + value, e);
+        }
+    }
+
+    private float parseFloat(String key) {
+        String value = properties.get(key);
+        try {
+            return Float.parseFloat(value.trim());
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid number for configuration key " + key + ": " + value, e);
         }
-        return configReader;
     }
 
     /**
@@ -57,19 +351,34 @@ public class ConfigReader {
      * @return Property value
      */
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = properties.get(key);
         if (value == null) {
             logger.warn("Property not found for key: " + key);
         }
         return value;
     }
 
+    /**
+     * Get all properties under a key prefix, e.g. "network.block.class."
+     * @param prefix Key prefix
+     * @return Key without the prefix -> value
+     */
+    public Map<String, String> getPropertiesWithPrefix(String prefix) {
+        Map<String, String> matching = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                matching.put(entry.getKey().substring(prefix.length()), entry.getValue());
+            }
+        }
+        return matching;
+    }
+
     /**
      * Get browser type from configuration
      * @return Browser name (chrome/firefox/edge)
      */
     public String getBrowser() {
-        return getProperty("browser");
+        return browser;
     }
 
     /**
@@ -77,7 +386,7 @@ public class ConfigReader {
      * @return Application URL
      */
     public String getUrl() {
-        return getProperty("url");
+        return url;
     }
 
     /**
@@ -85,7 +394,7 @@ public class ConfigReader {
      * @return Username
      */
     public String getUsername() {
-        return getProperty("username");
+        return username;
     }
 
     /**
@@ -93,7 +402,7 @@ public class ConfigReader {
      * @return Password
      */
     public String getPassword() {
-        return getProperty("password");
+        return password;
     }
 
     /**
@@ -101,8 +410,7 @@ public class ConfigReader {
      * @return Implicit wait timeout in seconds
      */
     public int getImplicitWait() {
-        String wait = getProperty("implicit.wait");
-        return wait != null ? Integer.parseInt(wait) : 10;
+        return implicitWait;
     }
 
     /**
@@ -110,8 +418,7 @@ public class ConfigReader {
      * @return Explicit wait timeout in seconds
      */
     public int getExplicitWait() {
-        String wait = getProperty("explicit.wait");
-        return wait != null ? Integer.parseInt(wait) : 20;
+        return explicitWait;
     }
 
     /**
@@ -119,8 +426,210 @@ public class ConfigReader {
      * @return Page load timeout in seconds
      */
     public int getPageLoadTimeout() {
-        String timeout = getProperty("page.load.timeout");
-        return timeout != null ? Integer.parseInt(timeout) : 30;
+        return pageLoadTimeout;
+    }
+
+    /**
+     * Get short wait timeout for optional elements such as popups
+     * @return Short wait timeout in seconds
+     */
+    public int getShortWait() {
+        return shortWait;
+    }
+
+    /**
+     * Get latency percentile adaptive timeouts are derived from
+     * @return Percentile between 0 and 100
+     */
+    public double getTimeoutPercentile() {
+        return timeoutPercentile;
+    }
+
+    /**
+     * Get factor applied to the latency percentile of an action
+     * @return Margin factor
+     */
+    public double getTimeoutMarginFactor() {
+        return timeoutMarginFactor;
+    }
+
+    /**
+     * Get fixed margin added to adaptive timeouts
+     * @return Margin in milliseconds
+     */
+    public long getTimeoutMarginMillis() {
+        return timeoutMarginMillis;
+    }
+
+    /**
+     * Get lower bound of adaptive timeouts
+     * @return Minimum timeout in milliseconds
+     */
+    public long getTimeoutMinMillis() {
+        return timeoutMinMillis;
+    }
+
+    /**
+     * Get upper bound of adaptive timeouts
+     * @return Maximum timeout in milliseconds
+     */
+    public long getTimeoutMaxMillis() {
+        return timeoutMaxMillis;
+    }
+
+    /**
+     * Get number of observations needed before an action's timeout becomes adaptive
+     * @return Minimum sample count
+     */
+    public int getTimeoutMinSamples() {
+        return timeoutMinSamples;
+    }
+
+    /**
+     * Get number of recent latencies kept per action
+     * @return History size
+     */
+    public int getTimeoutHistorySize() {
+        return timeoutHistorySize;
+    }
+
+    /**
+     * Get maximum number of pooled browser sessions
+     * @return Driver pool size
+     */
+    public int getDriverPoolSize() {
+        return driverPoolSize;
+    }
+
+    /**
+     * Get number of browser sessions launched in the background at suite start
+     * @return Driver pool warm-up count
+     */
+    public int getDriverPoolWarmUp() {
+        return driverPoolWarmUp;
+    }
+
+    /**
+     * Get maximum age of a pooled browser session before it is recycled
+     * @return Max session age in minutes
+     */
+    public int getDriverMaxAgeMinutes() {
+        return driverMaxAgeMinutes;
+    }
+
+    /**
+     * Get maximum number of tests served by one browser session before it is recycled
+     * @return Max uses per session
+     */
+    public int getDriverMaxUses() {
+        return driverMaxUses;
+    }
+
+    /**
+     * Get maximum time a test waits for a free browser session
+     * @return Lease timeout in seconds
+     */
+    public int getDriverPoolLeaseTimeout() {
+        return driverPoolLeaseTimeout;
+    }
+
+    /**
+     * Get how a browser session is cleaned between tests
+     * "fast" resets the session in place, "relaunch" quits and starts a new browser
+     * @return Session reset mode
+     */
+    public String getSessionResetMode() {
+        return sessionResetMode;
+    }
+
+    /**
+     * Get number of background threads encoding screenshots
+     * @return Screenshot encoder thread count
+     */
+    public int getScreenshotPipelineThreads() {
+        return screenshotPipelineThreads;
+    }
+
+    /**
+     * Get number of screenshots that may wait for encoding before callers encode them themselves
+     * @return Screenshot queue capacity
+     */
+    public int getScreenshotPipelineQueueSize() {
+        return screenshotPipelineQueueSize;
+    }
+
+    /**
+     * Get maximum time to wait for queued screenshots at the end of the suite
+     * @return Drain timeout in seconds
+     */
+    public int getScreenshotPipelineDrainTimeout() {
+        return screenshotPipelineDrainTimeout;
+    }
+
+    /**
+     * Get screenshot file format
+     * @return png or jpg
+     */
+    public String getScreenshotFormat() {
+        return screenshotFormat;
+    }
+
+    /**
+     * Get JPEG compression quality for screenshots
+     * @return Quality between 0.0 and 1.0
+     */
+    public float getScreenshotJpegQuality() {
+        return screenshotJpegQuality;
+    }
+
+    /**
+     * Get maximum screenshot width; wider screenshots are downscaled
+     * @return Max width in pixels, 0 to keep the original size
+     */
+    public int getScreenshotMaxWidth() {
+        return screenshotMaxWidth;
+    }
+
+    /**
+     * Get maximum total size of the screenshot store
+     * @return Max store size in MB
+     */
+    public int getScreenshotStoreMaxSizeMb() {
+        return screenshotStoreMaxSizeMb;
+    }
+
+    /**
+     * Get maximum age of an unused screenshot in the store
+     * @return Max age in days
+     */
+    public int getScreenshotStoreMaxAgeDays() {
+        return screenshotStoreMaxAgeDays;
+    }
+
+    /**
+     * Get report mode
+     * "standard" keeps the whole report in memory until the end, "streaming" writes finished tests to disk
+     * @return Report mode
+     */
+    public String getReportMode() {
+        return reportMode;
+    }
+
+    /**
+     * Get how screenshots are attached to the report
+     * "external" writes images beside the report with thumbnails, "inline" embeds them as Base64
+     * @return Attachment mode
+     */
+    public String getReportAttachmentMode() {
+        return reportAttachmentMode;
+    }
+
+    /**
+     * Check if WebDriver commands are counted and timed per test
+     * @return true if command profiling is enabled
+     */
+    public boolean isDriverProfilingEnabled() {
+        return driverProfiling;
     }
 
     /**
@@ -128,7 +637,199 @@ public class ConfigReader {
      * @return true if headless mode is enabled
      */
     public boolean isHeadless() {
-        String headless = getProperty("headless");
-        return headless != null && Boolean.parseBoolean(headless);
+        return headless;
+    }
+
+    /**
+     * Check if the suite runs against the embedded fixture server instead of the live site
+     * @return true if fixtures are enabled
+     */
+    public boolean isFixturesEnabled() {
+        return fixturesEnabled;
+    }
+
+    /**
+     * Get the directory of recorded page snapshots served by the fixture server
+     * @return Fixture directory
+     */
+    public String getFixturesDir() {
+        return fixturesDir;
+    }
+
+    /**
+     * Get the fixture server port
+     * @return Port, 0 for any free port
+     */
+    public int getFixturesPort() {
+        return fixturesPort;
+    }
+
+    /**
+     * Get the HTTP asset cache mode
+     * "off", "record" (serve hits, store misses) or "replay" (serve hits only)
+     * @return Cache mode
+     */
+    public String getHttpCacheMode() {
+        return httpCacheMode;
+    }
+
+    /**
+     * Get the directory of the HTTP asset cache
+     * @return Cache directory
+     */
+    public String getHttpCacheDir() {
+        return httpCacheDir;
+    }
+
+    /**
+     * Get the regular expression of request URLs the HTTP cache may serve
+     * @return URL pattern
+     */
+    public String getHttpCacheInclude() {
+        return httpCacheInclude;
+    }
+
+    /**
+     * Get the request blocking profile used by test classes without their own network.block.class.&lt;Class&gt; entry
+     * @return Profile name, "none" to block nothing
+     */
+    public String getNetworkBlockDefault() {
+        return networkBlockDefault;
+    }
+
+    /**
+     * Get how long the suggestion list must stay unchanged before it is read
+     * @return Settle time in milliseconds
+     */
+    public int getAutosuggestSettleMs() {
+        return autosuggestSettleMs;
+    }
+
+    /**
+     * Get lowest match score a suggestion needs to be selected
+     * @return Score between 0 and 1
+     */
+    public double getAutosuggestMinScore() {
+        return autosuggestMinScore;
+    }
+
+    /**
+     * Get files or directories holding testng-results.xml of previous runs, comma separated
+     * @return Result locations
+     */
+    public String getShardResults() {
+        return shardResults;
+    }
+
+    /**
+     * Get duration assumed for tests when no run history exists at all
+     * @return Estimate in milliseconds
+     */
+    public int getShardDefaultMillis() {
+        return shardDefaultMillis;
+    }
+
+    /**
+     * Get directory of the binary run history store
+     * @return Directory path
+     */
+    public String getHistoryDir() {
+        return historyDir;
+    }
+
+    /**
+     * Get number of recent runs averaged into a test's expected duration
+     * @return Number of runs
+     */
+    public int getShardHistoryRuns() {
+        return shardHistoryRuns;
+    }
+
+    /**
+     * Check if tests are reordered to run recent failures, flaky and changed tests first
+     * @return true if failure-first ordering is enabled
+     */
+    public boolean isOrderFailureFirst() {
+        return orderFailureFirst;
+    }
+
+    /**
+     * Get number of recent runs checked for failures and flakiness when ordering tests
+     * @return Number of runs
+     */
+    public int getOrderHistoryRuns() {
+        return orderHistoryRuns;
+    }
+
+    /**
+     * Get maximum retries of one test after transient failures
+     * @return Retries per test
+     */
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    /**
+     * Get maximum retries across the whole run
+     * @return Retries per run
+     */
+    public int getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Check if flip-flopping tests are moved to the quarantine group
+     * @return true if quarantine is enabled
+     */
+    public boolean isQuarantineEnabled() {
+        return quarantineEnabled;
+    }
+
+    /**
+     * Get number of recent runs checked for outcome flips
+     * @return Number of runs
+     */
+    public int getQuarantineHistoryRuns() {
+        return quarantineHistoryRuns;
+    }
+
+    /**
+     * Get number of outcome flips that quarantines a test
+     * @return Flips
+     */
+    public int getQuarantineMinFlips() {
+        return quarantineMinFlips;
+    }
+
+    /**
+     * Check if failures of quarantined tests fail the build
+     * @return true if quarantined failures count
+     */
+    public boolean isQuarantineFailBuild() {
+        return quarantineFailBuild;
+    }
+
+    /**
+     * Check if BaseTest log calls are queued and written by a background thread
+     * @return true if logging is asynchronous
+     */
+    public boolean isLogAsync() {
+        return logAsync;
+    }
+
+    /**
+     * Get the maximum number of log events written per batch
+     * @return Batch size
+     */
+    public int getLogBatchSize() {
+        return logBatchSize;
+    }
+
+    /**
+     * Get how long to wait for queued log events to be written
+     * @return Timeout in seconds
+     */
+    public int getLogFlushTimeout() {
+        return logFlushTimeout;
     }
 }
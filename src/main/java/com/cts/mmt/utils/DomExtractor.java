@@ -0,0 +1,278 @@
+package com.cts.mmt.utils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * DomExtractor - Reads a whole element collection in one executeScript call
+ * Looping over findElements costs one driver command per getText/getAttribute/isDisplayed
+ * for every element; this resolves the locator in the page and returns every value at once,
+ * mapped to {@link ElementSnapshot}s or to a record annotated with {@link DomField}
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class DomExtractor {
+
+    private static final Logger logger = LogManager.getLogger(DomExtractor.class);
+
+    private static final String EXTRACT_SCRIPT =
+            "var loc = arguments[0], fields = arguments[1], els = [];"
+            + "if (loc.using === 'xpath') {"
+            + "  var snap = document.evaluate(loc.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "  for (var k = 0; k < snap.snapshotLength; k++) { els.push(snap.snapshotItem(k)); }"
+            + "} else {"
+            + "  els = Array.prototype.slice.call(document.querySelectorAll(loc.value));"
+            + "}"
+            + "function visible(el) {"
+            + "  var r = el.getBoundingClientRect(); var s = window.getComputedStyle(el);"
+            + "  return r.width > 0 && r.height > 0 && s.visibility !== 'hidden' && s.display !== 'none';"
+            + "}"
+            + "function text(t) { return (t.innerText || t.textContent || '').replace(/\\s+/g, ' ').trim(); }"
+            + "function read(el, f) {"
+            + "  if (f.kind === 'TEXTS') { return Array.prototype.map.call(el.querySelectorAll(f.css), text); }"
+            + "  var t = f.css ? el.querySelector(f.css) : el;"
+            + "  if (!t) { return null; }"
+            + "  switch (f.kind) {"
+            + "    case 'TEXT': return text(t);"
+            + "    case 'VISIBLE': return visible(t);"
+            + "    case 'RECT': var r = t.getBoundingClientRect();"
+            + "      return [Math.round(r.left + window.pageXOffset), Math.round(r.top + window.pageYOffset),"
+            + "              Math.round(r.width), Math.round(r.height)];"
+            + "    default: return t.getAttribute(f.attribute);"
+            + "  }"
+            + "}"
+            + "return els.map(function (el) { return fields.map(function (f) { return read(el, f); }); });";
+
+    // Record type -> field specs and constructor, resolved once per type
+    private static final Map<Class<?>, RecordMapping> mappings = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private DomExtractor() {
+    }
+
+    /**
+     * Read text, visibility, bounding box and the given attributes of every matching element
+     * @param driver WebDriver instance
+     * @param locator CSS or XPath locator of the collection
+     * @param attributes Attributes to read
+     * @return One snapshot per element, in document order
+     */
+    public static List<ElementSnapshot> snapshot(WebDriver driver, By locator, String... attributes) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field("", Kind.TEXT, ""));
+        fields.add(new Field("", Kind.VISIBLE, ""));
+        fields.add(new Field("", Kind.RECT, ""));
+        for (String attribute : attributes) {
+            fields.add(new Field("", Kind.ATTRIBUTE, attribute));
+        }
+
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        for (List<Object> row : execute(driver, locator, fields, "snapshot")) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < attributes.length; i++) {
+                values.put(attributes[i], (String) row.get(3 + i));
+            }
+            snapshots.add(new ElementSnapshot((String) row.get(0), Collections.unmodifiableMap(values),
+                    Boolean.TRUE.equals(row.get(1)), toRectangle(row.get(2))));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Map every matching element to a record; components are read as described on {@link DomField}
+     * and components without the annotation read the matched element itself
+     * @param driver WebDriver instance
+     * @param locator CSS or XPath locator of the collection
+     * @param type Record type
+     * @param <R> Record type
+     * @return One record per element, in document order
+     */
+    public static <R extends Record> List<R> extract(WebDriver driver, By locator, Class<R> type) {
+        RecordMapping mapping = mappings.computeIfAbsent(type, RecordMapping::of);
+        List<R> records = new ArrayList<>();
+        for (List<Object> row : execute(driver, locator, mapping.fields, type.getSimpleName())) {
+            records.add(type.cast(mapping.create(row)));
+        }
+        return records;
+    }
+
+    private static List<List<Object>> execute(WebDriver driver, By locator, List<Field> fields, String name) {
+        List<Map<String, Object>> payload = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            payload.add(field.toScriptArgument());
+        }
+        long start = System.nanoTime();
+        @SuppressWarnings("unchecked")
+        List<List<Object>> rows = (List<List<Object>>) ((JavascriptExecutor) driver)
+                .executeScript(EXTRACT_SCRIPT, CompositeWait.locatorArgument(locator), payload);
+        StepMetrics.record("dom:extract[" + name + "]", System.nanoTime() - start);
+        logger.debug("Extracted " + rows.size() + " " + name + " from " + locator);
+        return rows;
+    }
+
+    private static Rectangle toRectangle(Object value) {
+        if (!(value instanceof List<?> box)) {
+            return null;
+        }
+        int x = ((Number) box.get(0)).intValue();
+        int y = ((Number) box.get(1)).intValue();
+        int width = ((Number) box.get(2)).intValue();
+        int height = ((Number) box.get(3)).intValue();
+        return new Rectangle(x, y, height, width);
+    }
+
+    /**
+     * What the script reads from the target element
+     */
+    private enum Kind {
+        TEXT, TEXTS, ATTRIBUTE, VISIBLE, RECT
+    }
+
+    /**
+     * One value read per element
+     */
+    private record Field(String css, Kind kind, String attribute) {
+
+        private Map<String, Object> toScriptArgument() {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            argument.put("css", css);
+            argument.put("kind", kind.name());
+            argument.put("attribute", attribute);
+            return argument;
+        }
+    }
+
+    /**
+     * Field specs and canonical constructor of a record type
+     */
+    private static final class RecordMapping {
+        private final List<Field> fields;
+        private final Class<?>[] types;
+        private final Constructor<?> constructor;
+
+        private RecordMapping(List<Field> fields, Class<?>[] types, Constructor<?> constructor) {
+            this.fields = fields;
+            this.types = types;
+            this.constructor = constructor;
+        }
+
+        private static RecordMapping of(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            List<Field> fields = new ArrayList<>(components.length);
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                if (!isSupported(types[i])) {
+                    throw new IllegalArgumentException("Unsupported component type " + types[i].getSimpleName()
+                            + " for " + type.getSimpleName() + "." + components[i].getName());
+                }
+                DomField annotation = components[i].getAnnotation(DomField.class);
+                String css = annotation != null ? annotation.css() : "";
+                String attribute = annotation != null ? annotation.attribute() : "";
+                Kind kind;
+                if (types[i] == Rectangle.class) {
+                    kind = Kind.RECT;
+                } else if (types[i] == List.class) {
+                    if (css.isEmpty()) {
+                        throw new IllegalArgumentException("List component " + type.getSimpleName() + "."
+                                + components[i].getName() + " needs @DomField(css) naming the children to read");
+                    }
+                    kind = Kind.TEXTS;
+                } else if (!attribute.isEmpty()) {
+                    kind = Kind.ATTRIBUTE;
+                } else if (types[i] == boolean.class || types[i] == Boolean.class) {
+                    kind = Kind.VISIBLE;
+                } else {
+                    kind = Kind.TEXT;
+                }
+                fields.add(new Field(css, kind, attribute));
+            }
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor(types);
+                constructor.setAccessible(true);
+                return new RecordMapping(List.copyOf(fields), types, constructor);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("No canonical constructor on " + type.getSimpleName(), e);
+            }
+        }
+
+        private Object create(List<Object> row) {
+            Object[] arguments = new Object[types.length];
+            for (int i = 0; i < types.length; i++) {
+                arguments[i] = convert(row.get(i), types[i]);
+            }
+            try {
+                return constructor.newInstance(arguments);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Failed to create " + constructor.getDeclaringClass().getSimpleName() + " from " + row, e);
+            }
+        }
+
+        private static boolean isSupported(Class<?> type) {
+            return type == String.class || type == Rectangle.class || type == List.class
+                    || type == boolean.class || type == Boolean.class
+                    || type == int.class || type == Integer.class
+                    || type == long.class || type == Long.class
+                    || type == double.class || type == Double.class;
+        }
+
+        private static Object convert(Object value, Class<?> type) {
+            if (type == Rectangle.class) {
+                return toRectangle(value);
+            }
+            if (type == List.class) {
+                List<String> texts = new ArrayList<>();
+                if (value instanceof List<?> items) {
+                    for (Object item : items) {
+                        texts.add(String.valueOf(item));
+                    }
+                }
+                return Collections.unmodifiableList(texts);
+            }
+            if (type == boolean.class || type == Boolean.class) {
+                // Visibility comes back as a boolean; an attribute counts as true when present and not "false"
+                return value instanceof Boolean flag ? flag : value != null && !"false".equalsIgnoreCase(value.toString());
+            }
+            String text = value != null ? value.toString().trim() : null;
+            if (type == String.class) {
+                return text;
+            }
+            if (text == null || text.isEmpty()) {
+                return emptyValue(type);
+            }
+            if (type == int.class || type == Integer.class) {
+                return Integer.parseInt(text);
+            }
+            if (type == long.class || type == Long.class) {
+                return Long.parseLong(text);
+            }
+            return Double.parseDouble(text);
+        }
+
+        private static Object emptyValue(Class<?> type) {
+            if (type == int.class) {
+                return 0;
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            return type == double.class ? 0d : null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.cts.mmt.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DomField - Says where a record component is read from when {@link DomExtractor} maps elements to records
+ * What is read follows from the component type: a {@link org.openqa.selenium.Rectangle} gets the
+ * bounding box, a {@code List<String>} gets the text of every child matching the selector, a boolean
+ * without an attribute gets visibility, anything else gets the attribute value, or the text when
+ * no attribute is given
+ *
+ * <pre>
+ * record CabCard(&#64;DomField(css = ".cabName") String name,
+ *                &#64;DomField(attribute = "data-type") String type,
+ *                &#64;DomField(css = ".cabPrice") String price) { }
+ * </pre>
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface DomField {
+
+    /**
+     * CSS selector of the child to read, relative to the matched element
+     * @return Selector, empty for the element itself
+     */
+    String css() default "";
+
+    /**
+     * Attribute to read
+     * @return Attribute name, empty for the text
+     */
+    String attribute() default "";
+}
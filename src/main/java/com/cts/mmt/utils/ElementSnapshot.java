@@ -0,0 +1,29 @@
+package com.cts.mmt.utils;
+
+import java.util.Map;
+
+import org.openqa.selenium.Rectangle;
+
+/**
+ * ElementSnapshot - Text, attributes, visibility and bounding box of one element, read in bulk
+ * by {@link DomExtractor#snapshot}
+ *
+ * @param text Visible text, trimmed
+ * @param attributes Requested attributes; absent attributes map to null
+ * @param displayed true if the element has a box and is not hidden by CSS
+ * @param rect Bounding box in page coordinates
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public record ElementSnapshot(String text, Map<String, String> attributes, boolean displayed, Rectangle rect) {
+
+    /**
+     * Get a requested attribute
+     * @param name Attribute name
+     * @return Value, or null if the element does not have it
+     */
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+}
@@ -1,9 +1,19 @@
 package com.cts.mmt.utils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
@@ -13,16 +23,27 @@ import org.apache.logging.log4j.Logger;
 /**
  * ExtentManager - Utility class to manage Extent Reports
  * Implements Singleton pattern for report management
- * 
+ * All report mutations go through synchronized methods so parallel test threads can share one report
+ *
+ * In streaming mode (report.mode=streaming) finished tests are written to an append-only
+ * event file and dropped from the heap; the Spark HTML is rendered from that file at the end.
+ * Screenshots are always published beside the report in that mode, so no image data is held in the event file
+ *
  * @author CTS Automation Team
  * @version 1.0
  */
 public class ExtentManager {
 
     private static final Logger logger = LogManager.getLogger(ExtentManager.class);
-    private static ExtentReports extent;
+    private static volatile ExtentReports extent;
     private static final String REPORT_PATH = "test-output/reports/";
 
+    // Streaming mode state
+    private static ReportEventLog eventLog;
+    private static String reportFileName;
+    private static boolean flushed;
+    private static final Map<String, String> systemInfo = new LinkedHashMap<>();
+
     /**
      * Private constructor to prevent instantiation
      */
@@ -32,7 +53,7 @@ public class ExtentManager {
     /**
      * Get ExtentReports instance (Singleton)
      * Creates new report with timestamp if not already created
-     * 
+     *
      * @return ExtentReports instance
      */
     public static ExtentReports getInstance() {
@@ -48,16 +69,52 @@ public class ExtentManager {
 
     /**
      * Create new ExtentReports instance with SparkReporter
-     * 
+     *
      * @return Configured ExtentReports instance
      */
     private static ExtentReports createInstance() {
         // Generate report filename with timestamp
         String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-        String reportFileName = REPORT_PATH + "TestReport_" + timestamp + ".html";
+        reportFileName = REPORT_PATH + "TestReport_" + timestamp + ".html";
+
+        if (isStreaming()) {
+            try {
+                eventLog = new ReportEventLog(Paths.get(REPORT_PATH, "TestReport_" + timestamp + ".events.jsonl"));
+            } catch (IOException e) {
+                throw new RuntimeException("Could not create report event log", e);
+            }
+            // Render whatever was recorded if the JVM exits without reaching flushReport()
+            Runtime.getRuntime().addShutdownHook(new Thread(ExtentManager::flushReport, "extent-report-render"));
+            logger.info("Streaming report events to: " + eventLog.getFile());
+            if (isInlineAttachments()) {
+                logger.warn("report.attachments=inline is ignored in streaming mode - screenshots are published beside the report");
+            }
+        }
+
+        // Set system information
+        setSystemInfo("Application", "MakeMyTrip");
+        setSystemInfo("Operating System", System.getProperty("os.name"));
+        setSystemInfo("Java Version", System.getProperty("java.version"));
+        setSystemInfo("User Name", System.getProperty("user.name"));
+        setSystemInfo("Environment", "QA");
+        setSystemInfo("Browser", ConfigReader.getInstance().getBrowser());
+
+        // In streaming mode the in-memory report only hosts running tests; HTML is rendered from the events
+        ExtentReports reports = eventLog != null ? new ExtentReports() : createReports(reportFileName);
+        systemInfo.forEach(reports::setSystemInfo);
+        logger.info("Extent Report initialized at: " + reportFileName);
+        return reports;
+    }
 
+    /**
+     * Create an ExtentReports instance writing to the given Spark HTML file
+     *
+     * @param fileName Report file name
+     * @return Configured ExtentReports instance
+     */
+    private static ExtentReports createReports(String fileName) {
         // Initialize SparkReporter
-        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportFileName);
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(fileName);
 
         // Configure report appearance
         sparkReporter.config().setDocumentTitle("MakeMyTrip Automation Report");
@@ -67,31 +124,180 @@ public class ExtentManager {
         sparkReporter.config().setTimeStampFormat("EEEE, MMMM dd, yyyy, hh:mm a '('zzz')'");
 
         // Initialize ExtentReports and attach reporter
-        extent = new ExtentReports();
-        extent.attachReporter(sparkReporter);
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(sparkReporter);
+        return reports;
+    }
 
-        // Set system information
-        extent.setSystemInfo("Application", "MakeMyTrip");
-        extent.setSystemInfo("Operating System", System.getProperty("os.name"));
-        extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-        extent.setSystemInfo("User Name", System.getProperty("user.name"));
-        extent.setSystemInfo("Environment", "QA");
-        extent.setSystemInfo("Browser", ConfigReader.getInstance().getBrowser());
+    /**
+     * Check whether finished tests are streamed to the event file
+     * @return true in streaming mode
+     */
+    private static boolean isStreaming() {
+        return "streaming".equalsIgnoreCase(ConfigReader.getInstance().getReportMode());
+    }
 
-        logger.info("Extent Report initialized at: " + reportFileName);
-        return extent;
+    /**
+     * Check whether screenshots are configured to be embedded as Base64
+     * @return true for report.attachments=inline
+     */
+    private static boolean isInlineAttachments() {
+        return "inline".equalsIgnoreCase(ConfigReader.getInstance().getReportAttachmentMode());
     }
 
     /**
-     * Flush the report - Must be called at the end of test execution
+     * Create a new test in the shared report
+     * ExtentReports does not guard its test list, so creation is serialized here
+     *
+     * @param testName Test name
+     * @param description Test description
+     * @return ExtentTest instance
+     */
+    public static synchronized ExtentTest createTest(String testName, String description) {
+        ExtentTest extentTest = getInstance().createTest(testName, description);
+        if (eventLog != null) {
+            eventLog.testStarted(idOf(extentTest), testName, description);
+        }
+        return extentTest;
+    }
+
+    /**
+     * Log a message to a test
+     *
+     * @param extentTest Test to log to
+     * @param status Log status
+     * @param message Message to log
      */
-    public static void flushReport() {
+    public static void log(ExtentTest extentTest, Status status, String message) {
+        synchronized (extentTest) {
+            extentTest.log(status, message);
+        }
+        if (eventLog != null) {
+            eventLog.log(idOf(extentTest), status, message);
+        }
+    }
+
+    /**
+     * Attach a screenshot to a test
+     * In external mode (report.attachments=external) the image is published beside the report and
+     * shown as a lazy-loaded thumbnail; in inline mode it is embedded as Base64. Streaming reports
+     * always publish the image, as Base64 would be written to the event file and read back into memory at flush.
+     * May be called after the test completed, e.g. from the screenshot pipeline
+     *
+     * @param extentTest Test to attach to
+     * @param status Log status
+     * @param title Screenshot title
+     * @param screenshotPath Path of the screenshot file
+     */
+    public static void attachScreenshot(ExtentTest extentTest, Status status, String title, String screenshotPath) {
+        try {
+            if (eventLog != null || !isInlineAttachments()) {
+                log(extentTest, status, title + "<br/>" + ReportAttachments.publish(screenshotPath));
+                return;
+            }
+
+            String base64Screenshot = Base64.getEncoder().encodeToString(Files.readAllBytes(Paths.get(screenshotPath)));
+            synchronized (extentTest) {
+                extentTest.log(status, title, MediaEntityBuilder.createScreenCaptureFromBase64String(base64Screenshot).build());
+            }
+        } catch (IOException e) {
+            logger.error("Failed to attach screenshot " + screenshotPath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Mark a test as finished
+     * In streaming mode the test is persisted to the event file and released from memory
+     *
+     * @param extentTest Finished test
+     */
+    public static void completeTest(ExtentTest extentTest) {
+        if (eventLog == null) {
+            return;
+        }
+        eventLog.testEnded(idOf(extentTest));
+        synchronized (ExtentManager.class) {
+            getInstance().removeTest(extentTest);
+        }
+    }
+
+    /**
+     * Add system information shown on the report dashboard
+     *
+     * @param name Information name
+     * @param value Information value
+     */
+    public static synchronized void setSystemInfo(String name, String value) {
+        systemInfo.put(name, value);
         if (extent != null) {
-            extent.flush();
-            logger.info("Extent Report flushed successfully");
+            extent.setSystemInfo(name, value);
         }
     }
 
+    private static String idOf(ExtentTest extentTest) {
+        return String.valueOf(extentTest.getModel().getId());
+    }
+
+    /**
+     * Flush the report - Must be called at the end of test execution
+     */
+    public static synchronized void flushReport() {
+        if (extent == null || flushed) {
+            return;
+        }
+        if (eventLog != null) {
+            flushed = true;
+            eventLog.close();
+            renderReport(eventLog.getFile(), reportFileName);
+            return;
+        }
+        extent.flush();
+        logger.info("Extent Report flushed successfully");
+    }
+
+    /**
+     * Render a Spark HTML report from a streaming event file
+     * Also usable after an aborted run, see {@link #main(String[])}
+     *
+     * @param eventFile Event file written in streaming mode
+     * @param htmlFile Report file to create
+     */
+    public static void renderReport(Path eventFile, String htmlFile) {
+        try {
+            ExtentReports reports = createReports(htmlFile);
+            systemInfo.forEach(reports::setSystemInfo);
+            int tests = ReportEventLog.replay(eventFile, reports);
+            reports.flush();
+            logger.info("Extent Report rendered with " + tests + " tests at: " + htmlFile);
+        } catch (IOException e) {
+            logger.error("Failed to render report from " + eventFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Render the report of an aborted streaming run
+     * Usage: ExtentManager &lt;events.jsonl&gt; [report.html]
+     *
+     * @param args Event file and optional report file
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: ExtentManager <events.jsonl> [report.html]");
+            return;
+        }
+        String htmlFile = args.length > 1 ? args[1] : args[0].replace(".events.jsonl", "") + ".html";
+        renderReport(Paths.get(args[0]), htmlFile);
+    }
+
+    /**
+     * Get the HTML file of the current run's report
+     * @return Report file name, e.g. test-output/reports/TestReport_&lt;timestamp&gt;.html
+     */
+    public static String getReportFileName() {
+        getInstance();
+        return reportFileName;
+    }
+
     /**
      * Get the report path
      * @return Report directory path
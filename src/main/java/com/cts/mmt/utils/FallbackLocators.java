@@ -0,0 +1,36 @@
+package com.cts.mmt.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.openqa.selenium.support.FindBy;
+
+/**
+ * FallbackLocators - Ordered alternative locators for one page-object element
+ * Used instead of @FindBy (or an XPath union) when the page has several known shapes.
+ * {@link LocatorEngine} tries them in order, remembers which one matched and starts
+ * with that one next time
+ *
+ * <pre>
+ * &#64;FallbackLocators({
+ *     &#64;FindBy(css = "li.menu_Cabs a"),
+ *     &#64;FindBy(xpath = "//span[text()='Cabs']/parent::a")
+ * })
+ * private WebElement cabsTab;
+ * </pre>
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface FallbackLocators {
+
+    /**
+     * Locators in preferred order, cheapest first
+     * @return Fallback locators
+     */
+    FindBy[] value();
+}
@@ -0,0 +1,207 @@
+package com.cts.mmt.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * FixtureServer - Embedded HTTP server that serves fixture pages in place of the live site
+ * The bundled fixtures are hand-written stand-ins carrying the selectors the page objects use,
+ * not recordings. Pages and XHR responses come from a fixture directory: routes.tsv maps requests to files
+ * (METHOD, regex on path and query, status, content type, file) and any other path is served
+ * as a static file under the directory. Nothing is forwarded upstream, so a request without a
+ * fixture gets a 404 and is logged - runs stay hermetic and deterministic
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class FixtureServer {
+
+    private static final Logger logger = LogManager.getLogger(FixtureServer.class);
+    private static final String ROUTES_FILE = "routes.tsv";
+
+    private final Path root;
+    private final List<Route> routes;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // File bytes are small and read-only, keep them after the first request
+    private final Map<Path, byte[]> content = new ConcurrentHashMap<>();
+    private final AtomicLong served = new AtomicLong();
+    private final Map<String, Boolean> missing = new ConcurrentHashMap<>();
+
+    private FixtureServer(Path root, int port, int threads) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.routes = loadRoutes(this.root.resolve(ROUTES_FILE));
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Start serving a fixture directory on the loopback interface
+     * @param root Fixture directory containing routes.tsv and the fixture files
+     * @param port Port to listen on, 0 for any free port
+     * @param threads Request handler threads, roughly one per parallel browser
+     * @return Running server
+     */
+    public static FixtureServer start(Path root, int port, int threads) {
+        try {
+            FixtureServer fixtureServer = new FixtureServer(root, port, Math.max(1, threads));
+            fixtureServer.server.start();
+            logger.info("Fixture server serving " + fixtureServer.root + " at " + fixtureServer.getBaseUrl()
+                    + " (" + fixtureServer.routes.size() + " routes)");
+            return fixtureServer;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start fixture server for " + root + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the URL the application should be opened at
+     * @return Base URL ending with '/'
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Stop the server
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        if (!missing.isEmpty()) {
+            logger.warn("Requests without a fixture: " + missing.keySet());
+        }
+    }
+
+    /**
+     * Get served and missing request counts for the report
+     * @return Summary text
+     */
+    public String getSummary() {
+        return served.get() + " responses served, " + missing.size() + " distinct requests without a fixture";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String target = exchange.getRequestURI().getRawPath()
+                    + (exchange.getRequestURI().getRawQuery() != null ? "?" + exchange.getRequestURI().getRawQuery() : "");
+
+            Route route = match(method, target);
+            Path file = route != null ? root.resolve(route.file()) : staticFile(exchange.getRequestURI().getPath());
+            if (file == null || !file.startsWith(root) || !Files.isRegularFile(file)) {
+                if (missing.putIfAbsent(method + " " + target, Boolean.TRUE) == null) {
+                    logger.warn("No fixture for " + method + " " + target);
+                }
+                send(exchange, 404, "text/plain", ("No fixture for " + target).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            byte[] body = content.computeIfAbsent(file, FixtureServer::read);
+            String contentType = route != null ? route.contentType() : contentTypeOf(file);
+            send(exchange, route != null ? route.status() : 200, contentType, body);
+            served.incrementAndGet();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Route match(String method, String target) {
+        for (Route route : routes) {
+            if (route.method().equalsIgnoreCase(method) && route.pattern().matcher(target).matches()) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private Path staticFile(String path) {
+        Path file = root.resolve(path.replaceFirst("^/+", "")).normalize();
+        return Files.isDirectory(file) ? file.resolve("index.html") : file;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        boolean head = "HEAD".equalsIgnoreCase(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head ? -1 : body.length);
+        if (!head) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static byte[] read(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read fixture " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String contentTypeOf(Path file) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(".js")) {
+            return "application/javascript";
+        }
+        if (name.endsWith(".json")) {
+            return "application/json";
+        }
+        if (name.endsWith(".css")) {
+            return "text/css";
+        }
+        String guessed = URLConnection.guessContentTypeFromName(name);
+        return guessed != null ? guessed : "application/octet-stream";
+    }
+
+    private static List<Route> loadRoutes(Path routesFile) throws IOException {
+        List<Route> loaded = new ArrayList<>();
+        if (!Files.exists(routesFile)) {
+            return loaded;
+        }
+        for (String line : Files.readAllLines(routesFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\t");
+            if (parts.length != 5) {
+                throw new RuntimeException("Invalid route in " + routesFile + ": " + line);
+            }
+            loaded.add(new Route(parts[0].trim(), Pattern.compile(parts[1].trim()), Integer.parseInt(parts[2].trim()),
+                    parts[3].trim(), parts[4].trim()));
+        }
+        return loaded;
+    }
+
+    /**
+     * One line of routes.tsv
+     */
+    private record Route(String method, Pattern pattern, int status, String contentType, String file) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.cts.mmt.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+/**
+ * HttpCache - Record/replay disk cache for the static assets browsers download on every test
+ * Runs inside the browser's network interception (see {@link NetworkInterception}), so HTTPS
+ * CDN, font and analytics requests are covered without a certificate-rewriting proxy.
+ * GET requests whose URL matches http.cache.include are keyed by SHA-256 of the URL:
+ * "record" serves hits and stores misses, "replay" serves hits and lets misses through untouched
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class HttpCache {
+
+    private static final Logger logger = LogManager.getLogger(HttpCache.class);
+
+    // Bodies are stored decoded, and cookies are never replayed into another session
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-length", "content-encoding",
+            "transfer-encoding", "set-cookie", "date", "age");
+
+    private static final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong stored = new AtomicLong();
+    private static final AtomicLong bytesServed = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private HttpCache() {
+    }
+
+    /**
+     * Check if the cache is switched on
+     * @return true in record or replay mode
+     */
+    public static boolean isEnabled() {
+        String mode = ConfigReader.getInstance().getHttpCacheMode();
+        return "record".equalsIgnoreCase(mode) || "replay".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Create the interception filter for one browser session
+     * @param session Counters of the session
+     * @return Filter serving cached responses
+     */
+    public static Filter filter(NetworkSession session) {
+        ConfigReader config = ConfigReader.getInstance();
+        boolean record = "record".equalsIgnoreCase(config.getHttpCacheMode());
+        Pattern include = Pattern.compile(config.getHttpCacheInclude());
+        Path root = Paths.get(config.getHttpCacheDir());
+
+        return next -> request -> {
+            if (request.getMethod() != HttpMethod.GET || !include.matcher(request.getUri()).matches()) {
+                return next.execute(request);
+            }
+            Path entry = entryPath(root, request.getUri());
+            byte[] cached = read(entry);
+            if (cached != null) {
+                HttpResponse response = parse(cached);
+                if (response != null) {
+                    long size = cached.length;
+                    session.cacheHit(size);
+                    hits.incrementAndGet();
+                    bytesServed.addAndGet(size);
+                    return response;
+                }
+            }
+
+            HttpResponse response = next.execute(request);
+            boolean recorded = record && response.getStatus() == 200 && write(entry, response);
+            session.cacheMiss(recorded);
+            misses.incrementAndGet();
+            if (recorded) {
+                stored.incrementAndGet();
+            }
+            return response;
+        };
+    }
+
+    /**
+     * Get suite-wide cache statistics for the report
+     * @return Summary text
+     */
+    public static String getSummary() {
+        long total = hits.get() + misses.get();
+        return String.format("%s mode, %d hits / %d requests (%.0f%%), %.1f MB served from cache, %d recorded",
+                ConfigReader.getInstance().getHttpCacheMode(), hits.get(), total,
+                total == 0 ? 0.0 : hits.get() * 100.0 / total, bytesServed.get() / (1024.0 * 1024.0), stored.get());
+    }
+
+    private static Path entryPath(Path root, String url) {
+        MessageDigest digest = sha256.get();
+        digest.reset();
+        String hash = HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        return root.resolve(hash.substring(0, 2)).resolve(hash + ".http");
+    }
+
+    private static byte[] read(Path entry) {
+        try {
+            return Files.readAllBytes(entry);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Failed to read cache entry " + entry + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Entry layout: status line, "name: value" header lines, a blank line, then the body
+     */
+    private static HttpResponse parse(byte[] entry) {
+        int separator = indexOfBlankLine(entry);
+        if (separator < 0) {
+            return null;
+        }
+        String[] head = new String(entry, 0, separator, StandardCharsets.UTF_8).split("\n");
+        HttpResponse response = new HttpResponse().setStatus(Integer.parseInt(head[0].trim()));
+        for (int i = 1; i < head.length; i++) {
+            int colon = head[i].indexOf(':');
+            if (colon > 0) {
+                response.addHeader(head[i].substring(0, colon), head[i].substring(colon + 1).trim());
+            }
+        }
+        byte[] body = new byte[entry.length - separator - 2];
+        System.arraycopy(entry, separator + 2, body, 0, body.length);
+        return response.setContent(Contents.bytes(body));
+    }
+
+    private static boolean write(Path entry, HttpResponse response) {
+        byte[] body = Contents.bytes(response.getContent());
+        // The body stream was consumed - give the browser its own copy
+        response.setContent(Contents.bytes(body));
+
+        StringBuilder head = new StringBuilder().append(response.getStatus()).append('\n');
+        for (String name : response.getHeaderNames()) {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                for (String value : response.getHeaders(name)) {
+                    head.append(name).append(": ").append(value.replace('\n', ' ')).append('\n');
+                }
+            }
+        }
+        head.append('\n');
+
+        try {
+            Files.createDirectories(entry.getParent());
+            Path temp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try (ByteArrayOutputStream out = new ByteArrayOutputStream(head.length() + body.length)) {
+                out.write(head.toString().getBytes(StandardCharsets.UTF_8));
+                out.write(body);
+                Files.write(temp, out.toByteArray());
+            }
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to record cache entry for " + entry + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static int indexOfBlankLine(byte[] entry) {
+        for (int i = 0; i + 1 < entry.length; i++) {
+            if (entry[i] == '\n' && entry[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,441 @@
+package com.cts.mmt.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+/**
+ * LocatorEngine - Element lookup with ordered fallback strategies, a winner cache and timing
+ * Page objects plug it into PageFactory through {@link #factory(SearchContext)}. Each element
+ * ("HomePage.cabsTab") is resolved with the strategy that matched last time first - across
+ * runs, via test-output/history - and falls back to the others in declared order. Strategies
+ * come from {@link FallbackLocators}, or from splitting a top-level XPath union in @FindBy.
+ * At the end of the suite the slowest and most fallback-prone elements are ranked on a page
+ * next to test-output/metrics/locators.tsv, linked from the report dashboard
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class LocatorEngine {
+
+    private static final Logger logger = LogManager.getLogger(LocatorEngine.class);
+    private static final Path WINNERS_FILE = Paths.get("test-output", "history", "locator-winners.tsv");
+    private static final Path REPORT_FILE = Paths.get("test-output", "metrics", "locators.tsv");
+    private static final Path PAGE_FILE = Paths.get("test-output", "metrics", "locators.html");
+    private static final int REPORT_ROWS = 15;
+    private static final long PROBE_INTERVAL_MILLIS = 100;
+
+    // element -> locator that matched last, as By.toString()
+    private static final Map<String, String> winners = load();
+    private static final Map<String, LocatorStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private LocatorEngine() {
+    }
+
+    /**
+     * Locator factory for PageFactory.initElements(LocatorEngine.factory(driver), page)
+     * @param context Driver or element to search from
+     * @return Factory creating engine-backed locators for annotated fields
+     */
+    public static ElementLocatorFactory factory(SearchContext context) {
+        return field -> new EngineLocator(context, keyOf(field), strategiesOf(field));
+    }
+
+    /**
+     * Find one element
+     * @param context Driver or element to search from
+     * @param key Element name, e.g. "CabsPage.searchButton"
+     * @param strategies Locators in preferred order
+     * @return First element matched by the first working strategy
+     * @throws NoSuchElementException if no strategy matches
+     */
+    public static WebElement find(SearchContext context, String key, List<By> strategies) {
+        WebElement element;
+        if (strategies.size() == 1) {
+            element = locate(key, strategies, by -> {
+                try {
+                    return context.findElement(by);
+                } catch (NoSuchElementException e) {
+                    return null;
+                }
+            }, 0);
+        } else {
+            element = probe(context, key, strategies, by -> {
+                List<WebElement> found = context.findElements(by);
+                return found.isEmpty() ? null : found.get(0);
+            });
+        }
+        if (element == null) {
+            throw new NoSuchElementException("No locator matched " + key + ": " + strategies);
+        }
+        return element;
+    }
+
+    /**
+     * Find all elements of the first strategy that matches anything
+     * @param context Driver or element to search from
+     * @param key Element name
+     * @param strategies Locators in preferred order
+     * @return Matched elements, empty if no strategy matches
+     */
+    public static List<WebElement> findAll(SearchContext context, String key, List<By> strategies) {
+        Function<By, List<WebElement>> lookup = by -> {
+            List<WebElement> found = context.findElements(by);
+            return found.isEmpty() ? null : found;
+        };
+        List<WebElement> elements = strategies.size() == 1
+                ? locate(key, strategies, lookup, 0) : probe(context, key, strategies, lookup);
+        return elements != null ? elements : Collections.emptyList();
+    }
+
+    /**
+     * Try every strategy with the implicit wait off, round after round until the configured
+     * implicit wait has passed, so a missing preferred locator does not cost a full implicit
+     * wait before the fallbacks are tried. Switching the wait does not count against command budgets
+     */
+    private static <T> T probe(SearchContext context, String key, List<By> strategies, Function<By, T> lookup) {
+        WebDriver driver = context instanceof WebDriver ? (WebDriver) context
+                : context instanceof WrapsDriver ? ((WrapsDriver) context).getWrappedDriver() : null;
+        Duration implicitWait = Duration.ofSeconds(ConfigReader.getInstance().getImplicitWait());
+        if (driver == null || implicitWait.isZero()) {
+            return locate(key, strategies, lookup, 0);
+        }
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        CommandProfiler.untracked(() -> timeouts.implicitlyWait(Duration.ZERO));
+        try {
+            return locate(key, strategies, lookup, implicitWait.toNanos());
+        } finally {
+            CommandProfiler.untracked(() -> timeouts.implicitlyWait(implicitWait));
+        }
+    }
+
+    private static <T> T locate(String key, List<By> strategies, Function<By, T> lookup, long waitNanos) {
+        long start = System.nanoTime();
+        List<By> order = preferredOrder(key, strategies);
+        while (true) {
+            for (int attempt = 0; attempt < order.size(); attempt++) {
+                By by = order.get(attempt);
+                T result = lookup.apply(by);
+                if (result != null) {
+                    stats(key).record(System.nanoTime() - start, attempt > 0, by);
+                    if (attempt > 0) {
+                        winners.put(key, by.toString());
+                        logger.debug(key + " matched by fallback " + by);
+                    }
+                    return result;
+                }
+            }
+            if (System.nanoTime() - start >= waitNanos || !pause()) {
+                break;
+            }
+        }
+        stats(key).record(System.nanoTime() - start, order.size() > 1, null);
+        return null;
+    }
+
+    private static boolean pause() {
+        try {
+            Thread.sleep(PROBE_INTERVAL_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static List<By> preferredOrder(String key, List<By> strategies) {
+        String winner = winners.get(key);
+        if (winner == null || strategies.size() < 2 || strategies.get(0).toString().equals(winner)) {
+            return strategies;
+        }
+        List<By> ordered = new ArrayList<>(strategies.size());
+        for (By by : strategies) {
+            if (by.toString().equals(winner)) {
+                ordered.add(0, by);
+            } else {
+                ordered.add(by);
+            }
+        }
+        return ordered;
+    }
+
+    private static LocatorStats stats(String key) {
+        return stats.computeIfAbsent(key, name -> new LocatorStats());
+    }
+
+    /**
+     * Rank the slowest and most fallback-prone elements on a page linked from the report, write them as TSV
+     * and save the winning strategies for the next run
+     */
+    public static void publish() {
+        saveWinners();
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, LocatorStats>> entries = new ArrayList<>(stats.entrySet());
+
+        entries.sort(Comparator.comparingLong((Map.Entry<String, LocatorStats> e) -> e.getValue().meanMicros()).reversed());
+        StringBuilder html = new StringBuilder("<b>Slowest locators</b>").append(tableHeader());
+        for (Map.Entry<String, LocatorStats> entry : entries.subList(0, Math.min(REPORT_ROWS, entries.size()))) {
+            html.append(tableRow(entry.getKey(), entry.getValue()));
+        }
+        html.append("</table>");
+
+        List<Map.Entry<String, LocatorStats>> fallbackProne = new ArrayList<>();
+        for (Map.Entry<String, LocatorStats> entry : entries) {
+            if (entry.getValue().fallbacks.get() > 0) {
+                fallbackProne.add(entry);
+            }
+        }
+        if (!fallbackProne.isEmpty()) {
+            fallbackProne.sort(Comparator.comparingLong((Map.Entry<String, LocatorStats> e) -> e.getValue().fallbacks.get()).reversed());
+            html.append("<b>Most fallbacks</b>").append(tableHeader());
+            for (Map.Entry<String, LocatorStats> entry : fallbackProne.subList(0, Math.min(REPORT_ROWS, fallbackProne.size()))) {
+                html.append(tableRow(entry.getKey(), entry.getValue()));
+            }
+            html.append("</table>");
+        }
+
+        try {
+            String href = ReportAttachments.publishPage(PAGE_FILE, "Locator Performance", html.toString());
+            ExtentManager.setSystemInfo("Locator Performance", "<a href='" + href + "' target='_blank'>"
+                    + entries.size() + " elements, " + fallbackProne.size() + " with fallbacks</a>");
+        } catch (IOException e) {
+            logger.warn("Failed to write locator performance page: " + e.getMessage());
+        }
+
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(REPORT_FILE, StandardCharsets.UTF_8)) {
+                writer.write("element\tlookups\tmean_us\tmax_us\tfallbacks\tmisses\twinner");
+                writer.newLine();
+                for (Map.Entry<String, LocatorStats> entry : entries) {
+                    LocatorStats s = entry.getValue();
+                    writer.write(entry.getKey() + "\t" + s.lookups.get() + "\t" + s.meanMicros() + "\t"
+                            + TimeUnit.NANOSECONDS.toMicros(s.maxNanos.get()) + "\t" + s.fallbacks.get() + "\t"
+                            + s.misses.get() + "\t" + s.topWinner());
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write locator report: " + e.getMessage());
+        }
+    }
+
+    private static String tableHeader() {
+        return "<table class='table table-sm'><tr><th>Element</th><th>Lookups</th><th>Mean (ms)</th>"
+                + "<th>Max (ms)</th><th>Fallbacks</th><th>Misses</th><th>Winning locator</th></tr>";
+    }
+
+    private static String tableRow(String key, LocatorStats s) {
+        return String.format("<tr><td>%s</td><td>%d</td><td>%.1f</td><td>%.1f</td><td>%d</td><td>%d</td><td>%s</td></tr>",
+                key, s.lookups.get(), s.meanMicros() / 1000.0, TimeUnit.NANOSECONDS.toMicros(s.maxNanos.get()) / 1000.0,
+                s.fallbacks.get(), s.misses.get(), s.topWinner().replace("<", "&lt;"));
+    }
+
+    /**
+     * Element name used for statistics and the winner cache
+     * @param field Page-object field
+     * @return e.g. "HomePage.cabsTab"
+     */
+    static String keyOf(Field field) {
+        return field.getDeclaringClass().getSimpleName() + "." + field.getName();
+    }
+
+    /**
+     * Locator strategies declared on a field, in preferred order
+     * @param field Page-object field
+     * @return Strategies
+     */
+    public static List<By> strategiesOf(Field field) {
+        List<By> strategies = new ArrayList<>();
+        FallbackLocators fallbacks = field.getAnnotation(FallbackLocators.class);
+        if (fallbacks != null) {
+            FindBy.FindByBuilder builder = new FindBy.FindByBuilder();
+            for (FindBy findBy : fallbacks.value()) {
+                strategies.add(builder.buildIt(findBy, field));
+            }
+            return strategies;
+        }
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        if (findBy != null && !findBy.xpath().isEmpty()) {
+            List<String> branches = splitUnion(findBy.xpath());
+            if (branches.size() > 1) {
+                for (String branch : branches) {
+                    strategies.add(By.xpath(branch));
+                }
+                return strategies;
+            }
+        }
+        strategies.add(new Annotations(field).buildBy());
+        return strategies;
+    }
+
+    /**
+     * Split an XPath on its top-level union operators, ignoring '|' inside predicates and strings
+     * @param xpath XPath expression
+     * @return Union branches, trimmed
+     */
+    static List<String> splitUnion(String xpath) {
+        List<String> branches = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < xpath.length(); i++) {
+            char c = xpath.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                branches.add(xpath.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        branches.add(xpath.substring(start).trim());
+        return branches;
+    }
+
+    private static void saveWinners() {
+        if (winners.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(WINNERS_FILE.getParent());
+            Path temp = WINNERS_FILE.resolveSibling(WINNERS_FILE.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, String> entry : new TreeMap<>(winners).entrySet()) {
+                    writer.write(entry.getKey() + "\t" + entry.getValue());
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, WINNERS_FILE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to save locator winners: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, String> load() {
+        Map<String, String> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(WINNERS_FILE)) {
+            return loaded;
+        }
+        try {
+            for (String line : Files.readAllLines(WINNERS_FILE, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    loaded.put(line.substring(0, tab), line.substring(tab + 1));
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read locator winners, starting empty: " + e.getMessage());
+        }
+        return loaded;
+    }
+
+    /**
+     * PageFactory locator backed by the engine
+     */
+    private static final class EngineLocator implements ElementLocator {
+        private final SearchContext context;
+        private final String key;
+        private final List<By> strategies;
+
+        private EngineLocator(SearchContext context, String key, List<By> strategies) {
+            this.context = context;
+            this.key = key;
+            this.strategies = List.copyOf(strategies);
+        }
+
+        @Override
+        public WebElement findElement() {
+            return find(context, key, strategies);
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            return findAll(context, key, strategies);
+        }
+
+        @Override
+        public String toString() {
+            return "LocatorEngine '" + key + "' " + strategies;
+        }
+    }
+
+    /**
+     * Lookup counters of one element
+     */
+    private static final class LocatorStats {
+        private final AtomicLong lookups = new AtomicLong();
+        private final AtomicLong fallbacks = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final Map<String, AtomicLong> wins = new ConcurrentHashMap<>();
+
+        private void record(long nanos, boolean fallback, By winner) {
+            lookups.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            if (fallback) {
+                fallbacks.incrementAndGet();
+            }
+            if (winner == null) {
+                misses.incrementAndGet();
+            } else {
+                wins.computeIfAbsent(winner.toString(), name -> new AtomicLong()).incrementAndGet();
+            }
+        }
+
+        private long meanMicros() {
+            long count = lookups.get();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.get() / count);
+        }
+
+        private String topWinner() {
+            return wins.entrySet().stream()
+                    .max(Comparator.comparingLong((Map.Entry<String, AtomicLong> e) -> e.getValue().get()))
+                    .map(Map.Entry::getKey)
+                    .orElse("-");
+        }
+    }
+}
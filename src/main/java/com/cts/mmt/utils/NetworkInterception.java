@@ -0,0 +1,101 @@
+package com.cts.mmt.utils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Filter;
+
+/**
+ * NetworkInterception - Installs the browser-side request filters on a new session
+ * DevTools allows one interceptor per session, so every network feature contributes a
+ * {@link Filter} and they are chained into a single {@link NetworkInterceptor}. The interceptor
+ * pauses every request, so it is only installed for the HTTP cache; blocking alone hands the
+ * profile to the browser as URL patterns and counts what it blocked from DevTools events.
+ * Browsers without DevTools (Firefox) run unfiltered
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class NetworkInterception {
+
+    private static final Logger logger = LogManager.getLogger(NetworkInterception.class);
+
+    // Session counters by browser - weak so evicted browsers are not kept alive
+    private static final Map<WebDriver, NetworkSession> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private NetworkInterception() {
+    }
+
+    /**
+     * Install the enabled filters on a browser session
+     * @param driver Newly created WebDriver
+     * @return Session counters, or null when no filter applies
+     */
+    public static NetworkSession attach(WebDriver driver) {
+        boolean cache = HttpCache.isEnabled();
+        boolean blocking = RequestBlocker.isEnabled();
+        if (!cache && !blocking) {
+            return null;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            logger.warn("Network interception needs DevTools - running " + driver.getClass().getSimpleName() + " without it");
+            return null;
+        }
+        if (!cache) {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkSession session = new NetworkSession(devTools);
+            RequestBlocker.listen(devTools, session);
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            sessions.put(driver, session);
+            return session;
+        }
+        NetworkSession session = new NetworkSession(null);
+        // Blocking runs first so blocked requests never reach the cache or the network
+        Filter filter = blocking ? RequestBlocker.filter(session).andThen(HttpCache.filter(session)) : HttpCache.filter(session);
+        new NetworkInterceptor(driver, filter);
+        sessions.put(driver, session);
+        return session;
+    }
+
+    /**
+     * Switch the blocking profile of a session when it is leased to a test class
+     * Sessions without an interceptor get the profile's URL patterns through Network.setBlockedURLs,
+     * only when the profile changes
+     * @param driver WebDriver returned by the pool
+     * @param profile Profile of the test class
+     * @return Session counters, or null if the session is not intercepted
+     */
+    public static NetworkSession applyBlockingProfile(WebDriver driver, BlockingProfile profile) {
+        NetworkSession session = sessionOf(driver);
+        if (session == null) {
+            return null;
+        }
+        BlockingProfile previous = session.getBlockingProfile();
+        session.setBlockingProfile(profile);
+        if (!session.isIntercepted() && session.getBlockingProfile() != previous) {
+            RequestBlocker.apply(session.getDevTools(), session.getBlockingProfile());
+        }
+        return session;
+    }
+
+    /**
+     * Get the counters of a browser session
+     * @param driver WebDriver returned by the pool
+     * @return Session counters, or null if the session is not intercepted
+     */
+    public static NetworkSession sessionOf(WebDriver driver) {
+        return driver == null ? null : sessions.get(driver);
+    }
+}
@@ -0,0 +1,121 @@
+package com.cts.mmt.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.devtools.DevTools;
+
+/**
+ * NetworkSession - Network interception state of one browser session
+ * Holds the blocking profile of the test class using the session and counters updated
+ * from DevTools event threads; {@link #drain()} hands the counts accumulated
+ * since the previous call to the test that just finished on this session
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class NetworkSession {
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong cacheStored = new AtomicLong();
+    private final AtomicLong bytesFromCache = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong blockedMillis = new AtomicLong();
+
+    // Blocking profile of the test class currently using this session
+    private volatile BlockingProfile blockingProfile = BlockingProfile.NONE;
+
+    // Session Chrome blocks by URL pattern through, null when a NetworkInterceptor sees every request
+    private final DevTools devTools;
+
+    NetworkSession(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Switch the blocking profile, e.g. when the session is leased to another test class
+     * @param profile Profile to apply to the following requests
+     */
+    public void setBlockingProfile(BlockingProfile profile) {
+        this.blockingProfile = profile != null ? profile : BlockingProfile.NONE;
+    }
+
+    /**
+     * Get the blocking profile currently applied
+     * @return Active profile
+     */
+    public BlockingProfile getBlockingProfile() {
+        return blockingProfile;
+    }
+
+    /**
+     * Check if requests pass through a NetworkInterceptor
+     * Without one, the browser drops blocked requests and reports them as DevTools events
+     * @return true if the session is intercepted
+     */
+    public boolean isIntercepted() {
+        return devTools == null;
+    }
+
+    DevTools getDevTools() {
+        return devTools;
+    }
+
+    void cacheHit(long bytes) {
+        cacheHits.incrementAndGet();
+        bytesFromCache.addAndGet(bytes);
+    }
+
+    void cacheMiss(boolean stored) {
+        cacheMisses.incrementAndGet();
+        if (stored) {
+            cacheStored.incrementAndGet();
+        }
+    }
+
+    void requestBlocked(long estimatedMillis) {
+        blocked.incrementAndGet();
+        blockedMillis.addAndGet(estimatedMillis);
+    }
+
+    /**
+     * Take the counts accumulated since the last drain
+     * @return Counts for the finished test
+     */
+    public Snapshot drain() {
+        return new Snapshot(cacheHits.getAndSet(0), cacheMisses.getAndSet(0), cacheStored.getAndSet(0),
+                bytesFromCache.getAndSet(0), blockingProfile.getName(), blocked.getAndSet(0), blockedMillis.getAndSet(0));
+    }
+
+    /**
+     * Network counts of one test
+     */
+    public record Snapshot(long cacheHits, long cacheMisses, long cacheStored, long bytesFromCache,
+            String blockingProfile, long blocked, long blockedMillis) {
+
+        /**
+         * Check if anything was intercepted
+         * @return true if there is something to report
+         */
+        public boolean isEmpty() {
+            return cacheHits == 0 && cacheMisses == 0 && blocked == 0;
+        }
+
+        /**
+         * Get a one-line summary for the report
+         * @return e.g. "HTTP cache: 42 hits (1.8 MB), 3 misses, 3 recorded | Blocked (fast): 57 requests, ~4210 ms avoided"
+         */
+        public String getSummary() {
+            StringBuilder summary = new StringBuilder();
+            if (cacheHits > 0 || cacheMisses > 0) {
+                summary.append(String.format("HTTP cache: %d hits (%.1f MB), %d misses, %d recorded",
+                        cacheHits, bytesFromCache / (1024.0 * 1024.0), cacheMisses, cacheStored));
+            }
+            if (blocked > 0) {
+                summary.append(summary.length() > 0 ? " | " : "").append(String.format(
+                        "Blocked (%s): %d requests, ~%d ms of request time avoided", blockingProfile, blocked, blockedMillis));
+            }
+            return summary.toString();
+        }
+    }
+}
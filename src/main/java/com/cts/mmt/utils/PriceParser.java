@@ -0,0 +1,213 @@
+package com.cts.mmt.utils;
+
+import java.util.Currency;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * PriceParser - Single-pass parser for displayed fares such as "₹ 12,499", "Rs. 1,23,456.50" or "USD 12"
+ * Scans the characters once without regular expressions. The fare is the first amount in the text;
+ * a strike-through fare is read from its own element and passed separately
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class PriceParser {
+
+    /**
+     * Currency assumed when the text has no symbol or code
+     */
+    public static final String DEFAULT_CURRENCY = "INR";
+
+    private static final Set<String> CURRENCY_CODES = Currency.getAvailableCurrencies().stream()
+            .map(Currency::getCurrencyCode)
+            .collect(Collectors.toUnmodifiableSet());
+
+    /**
+     * Parsed fare
+     * @param currency ISO currency code
+     * @param amount Fare in minor units (paise, cents)
+     * @param originalAmount Strike-through fare in minor units, equal to amount when not discounted
+     */
+    public record Price(String currency, long amount, long originalAmount) implements Comparable<Price> {
+
+        /**
+         * Check if a higher original fare was shown next to this one
+         * @return true if discounted
+         */
+        public boolean isDiscounted() {
+            return originalAmount > amount;
+        }
+
+        /**
+         * Order by currency code, then by amount - amounts in different currencies are not comparable
+         */
+        @Override
+        public int compareTo(Price other) {
+            int byCurrency = currency.compareTo(other.currency);
+            return byCurrency != 0 ? byCurrency : Long.compare(amount, other.amount);
+        }
+
+        @Override
+        public String toString() {
+            long minor = amount % 100;
+            return minor == 0
+                    ? String.format("%s %,d", currency, amount / 100)
+                    : String.format("%s %,d.%02d", currency, amount / 100, minor);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private PriceParser() {
+    }
+
+    /**
+     * Parse a displayed fare
+     * Only the first amount counts, so "₹ 2,499 (20% off)" or "₹ 1,999 + ₹ 350 taxes" read as the fare
+     * @param text Price text, may include a currency symbol or code and grouping commas
+     * @return Price, or null if the text holds no amount
+     */
+    public static Price parse(CharSequence text) {
+        return parse(text, null);
+    }
+
+    /**
+     * Parse a displayed fare together with its strike-through fare
+     * The strike-through text is skipped when it is part of the fare text, as with a nested &lt;del&gt;
+     * @param text Price text
+     * @param originalText Strike-through fare text, null or empty when not discounted
+     * @return Price, or null if the text holds no amount
+     */
+    public static Price parse(CharSequence text, CharSequence originalText) {
+        if (text == null) {
+            return null;
+        }
+        int skipStart = 0;
+        int skipEnd = 0;
+        long originalAmount = -1;
+        if (originalText != null) {
+            String original = originalText.toString().trim();
+            if (!original.isEmpty()) {
+                int at = text.toString().indexOf(original);
+                if (at >= 0) {
+                    skipStart = at;
+                    skipEnd = at + original.length();
+                }
+                Price strikeThrough = scan(original, 0, 0);
+                originalAmount = strikeThrough != null ? strikeThrough.amount() : -1;
+            }
+        }
+        Price price = scan(text, skipStart, skipEnd);
+        if (price == null || originalAmount <= price.amount()) {
+            return price;
+        }
+        return new Price(price.currency(), price.amount(), originalAmount);
+    }
+
+    /**
+     * Read the currency and the first amount, treating the characters in [skipStart, skipEnd) as blanks
+     */
+    private static Price scan(CharSequence text, int skipStart, int skipEnd) {
+        String currency = null;
+        long amount = -1;
+
+        long value = 0;
+        int fractionDigits = -1;   // -1 while in the integer part
+        boolean inNumber = false;
+        int length = text.length();
+        for (int i = 0; i <= length && (amount < 0 || currency == null); i++) {
+            boolean skipped = i >= skipStart && i < skipEnd;
+            char c = i < length && !skipped ? text.charAt(i) : ' ';
+            if (c >= '0' && c <= '9') {
+                if (fractionDigits < 2) {
+                    value = value * 10 + (c - '0');
+                    if (fractionDigits >= 0) {
+                        fractionDigits++;
+                    }
+                }
+                inNumber = true;
+                continue;
+            }
+            if (inNumber && c == ',' && fractionDigits < 0) {
+                continue;
+            }
+            if (inNumber && c == '.' && fractionDigits < 0 && i + 1 < length && isDigit(text.charAt(i + 1))) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (inNumber) {
+                if (amount < 0) {
+                    amount = value * (fractionDigits <= 0 ? 100 : fractionDigits == 1 ? 10 : 1);
+                }
+                value = 0;
+                fractionDigits = -1;
+                inNumber = false;
+            }
+            if (currency == null && i < length && !skipped) {
+                currency = currencyAt(text, i);
+            }
+        }
+        if (amount < 0) {
+            return null;
+        }
+        return new Price(currency != null ? currency : DEFAULT_CURRENCY, amount, amount);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static String currencyAt(CharSequence text, int index) {
+        if (index > 0 && Character.isLetter(text.charAt(index - 1))) {
+            return null;
+        }
+        switch (text.charAt(index)) {
+            case '₹':
+                return "INR";
+            case '$':
+                return "USD";
+            case '€':
+                return "EUR";
+            case '£':
+                return "GBP";
+            case 'R':
+            case 'r':
+                String code = codeAt(text, index);
+                return code != null ? code : startsWith(text, index, "RS") ? "INR" : null;
+            default:
+                return codeAt(text, index);
+        }
+    }
+
+    /**
+     * Read an upper-case ISO 4217 code such as "USD" or "INR" standing as a word of its own
+     */
+    private static String codeAt(CharSequence text, int index) {
+        int end = index + 3;
+        if (end > text.length() || (end < text.length() && Character.isLetter(text.charAt(end)))) {
+            return null;
+        }
+        for (int i = index; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return null;
+            }
+        }
+        String code = text.subSequence(index, end).toString();
+        return CURRENCY_CODES.contains(code) ? code : null;
+    }
+
+    private static boolean startsWith(CharSequence text, int index, String prefix) {
+        if (index + prefix.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toUpperCase(text.charAt(index + i)) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,179 @@
+package com.cts.mmt.utils;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Predicate;
+
+import javax.imageio.ImageIO;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ReportAttachments - Publishes screenshots next to the HTML report
+ * Images are placed in a directory of their own report, TestReport_&lt;timestamp&gt;_attachments
+ * (hard-linked from the screenshot store when possible), together with a small JPEG thumbnail,
+ * and referenced from the report by relative path. The report embeds only lazy-loaded thumbnails,
+ * so its size stays flat as failures grow. Deleting a report together with its directory frees its
+ * attachments; {@link #prune} removes attachments whose store image was evicted by retention.
+ * Suite-level tables (step latency, locator performance) are written as pages of their own with
+ * {@link #publishPage} and linked from the dashboard, so they do not show up as tests
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class ReportAttachments {
+
+    private static final Logger logger = LogManager.getLogger(ReportAttachments.class);
+    private static final String ATTACHMENT_DIR_SUFFIX = "_attachments";
+    // Shared directory used by earlier versions, still pruned
+    private static final String LEGACY_ATTACHMENT_DIR = "attachments";
+    private static final String THUMBNAIL_DIR = "thumbs";
+    private static final int THUMBNAIL_WIDTH = 320;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ReportAttachments() {
+    }
+
+    /**
+     * Publish a screenshot beside the report and build the HTML snippet referencing it
+     * @param screenshotPath Path of the screenshot (usually inside the screenshot store)
+     * @return HTML with a lazy-loaded thumbnail linking to the full image
+     */
+    public static String publish(String screenshotPath) throws IOException {
+        Path source = Paths.get(screenshotPath);
+        String attachmentDirName = Paths.get(ExtentManager.getReportFileName()).getFileName().toString()
+                .replaceFirst("\\.html$", "") + ATTACHMENT_DIR_SUFFIX;
+        Path attachmentDir = Paths.get(ExtentManager.getReportPath(), attachmentDirName);
+        Path thumbnailDir = attachmentDir.resolve(THUMBNAIL_DIR);
+        Files.createDirectories(thumbnailDir);
+
+        String fileName = source.getFileName().toString();
+        Path attachment = attachmentDir.resolve(fileName);
+        if (!Files.exists(attachment)) {
+            link(source, attachment);
+        }
+
+        String thumbnailName = fileName.replaceFirst("\\.[^.]+$", "") + ".jpg";
+        Path thumbnail = thumbnailDir.resolve(thumbnailName);
+        if (!Files.exists(thumbnail)) {
+            writeThumbnail(source, thumbnail);
+        }
+
+        String fullHref = attachmentDirName + "/" + fileName;
+        String thumbHref = attachmentDirName + "/" + THUMBNAIL_DIR + "/" + thumbnailName;
+        return "<a href='" + fullHref + "' target='_blank'>"
+                + "<img src='" + thumbHref + "' loading='lazy' width='" + THUMBNAIL_WIDTH + "' alt='screenshot'/></a>";
+    }
+
+    /**
+     * Write an HTML page, e.g. a metrics table, and build a link to it relative to the report
+     * @param file Page to write, usually beside the metrics data it shows
+     * @param title Page title
+     * @param body HTML body
+     * @return Relative href for use in the report, e.g. ../metrics/locators.html
+     */
+    public static String publishPage(Path file, String title, String body) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, "<!DOCTYPE html><html><head><meta charset='UTF-8'><title>" + title + "</title></head>"
+                + "<body><h3>" + title + "</h3>" + body + "</body></html>", StandardCharsets.UTF_8);
+        return Paths.get(ExtentManager.getReportPath()).toAbsolutePath()
+                .relativize(file.toAbsolutePath()).toString().replace('\\', '/');
+    }
+
+    /**
+     * Delete attachments and thumbnails of images no longer in the screenshot store
+     * A hard link only frees disk space once every name of the blob is gone
+     * @param isStored Tells whether the store still holds an image hash
+     */
+    public static void prune(Predicate<String> isStored) {
+        Path reportDir = Paths.get(ExtentManager.getReportPath());
+        if (!Files.isDirectory(reportDir)) {
+            return;
+        }
+        int removed = 0;
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(reportDir, path -> Files.isDirectory(path)
+                && (path.getFileName().toString().endsWith(ATTACHMENT_DIR_SUFFIX)
+                        || path.getFileName().toString().equals(LEGACY_ATTACHMENT_DIR)))) {
+            for (Path dir : dirs) {
+                removed += pruneDirectory(dir, isStored);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to prune report attachments: " + e.getMessage());
+        }
+        if (removed > 0) {
+            logger.info("Removed " + removed + " report attachments of evicted screenshots");
+        }
+    }
+
+    private static int pruneDirectory(Path dir, Predicate<String> isStored) throws IOException {
+        int removed = 0;
+        Path thumbnailDir = dir.resolve(THUMBNAIL_DIR);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, Files::isRegularFile)) {
+            for (Path file : files) {
+                String hash = file.getFileName().toString().replaceFirst("\\.[^.]+$", "");
+                if (!isStored.test(hash)) {
+                    Files.deleteIfExists(file);
+                    Files.deleteIfExists(thumbnailDir.resolve(hash + ".jpg"));
+                    removed++;
+                }
+            }
+        }
+        deleteIfEmpty(thumbnailDir);
+        deleteIfEmpty(dir);
+        return removed;
+    }
+
+    private static void deleteIfEmpty(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            if (entries.iterator().hasNext()) {
+                return;
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * Hard-link the attachment to the stored image, copying when links are not supported
+     * @param source Stored image
+     * @param attachment Attachment path beside the report
+     */
+    private static void link(Path source, Path attachment) throws IOException {
+        try {
+            Files.createLink(attachment, source.toAbsolutePath());
+        } catch (FileAlreadyExistsException e) {
+            // Published concurrently by another thread
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, attachment, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Write a small JPEG thumbnail of an image
+     * @param source Full-size image
+     * @param thumbnail Thumbnail path
+     */
+    private static void writeThumbnail(Path source, Path thumbnail) throws IOException {
+        BufferedImage image = ImageIO.read(source.toFile());
+        if (image == null) {
+            logger.warn("Cannot create thumbnail for unreadable image: " + source);
+            return;
+        }
+        BufferedImage scaled = ScreenshotPipeline.downscale(image, THUMBNAIL_WIDTH, true);
+        Path temp = Files.createTempFile(thumbnail.getParent(), "thumb", ".tmp");
+        ImageIO.write(scaled, "jpg", temp.toFile());
+        Files.move(temp, thumbnail, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,168 @@
+package com.cts.mmt.utils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+/**
+ * ReportEventLog - Append-only event file backing the streaming report mode
+ * Every test start, log line and test end is written as one JSON line; screenshots are
+ * published beside the report and appear as log lines referencing them.
+ * The file is flushed whenever a test finishes, so an aborted run keeps every
+ * finished test and can still be rendered into a Spark report
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class ReportEventLog {
+
+    private static final Logger logger = LogManager.getLogger(ReportEventLog.class);
+    private static final Json JSON = new Json();
+
+    private final Path file;
+    private final BufferedWriter writer;
+
+    /**
+     * Open an event log for appending
+     * @param file Event file path
+     */
+    public ReportEventLog(Path file) throws IOException {
+        this.file = file;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Record the start of a test
+     * @param id Test id
+     * @param name Test name
+     * @param description Test description
+     */
+    public void testStarted(String id, String name, String description) {
+        Map<String, Object> event = event("test", id);
+        event.put("name", name);
+        event.put("description", description);
+        write(event, false);
+    }
+
+    /**
+     * Record a log line
+     * @param id Test id
+     * @param status Log status
+     * @param message Log message
+     */
+    public void log(String id, Status status, String message) {
+        Map<String, Object> event = event("log", id);
+        event.put("status", status.name());
+        event.put("message", message);
+        write(event, false);
+    }
+
+    /**
+     * Record the end of a test and flush everything recorded so far to disk
+     * @param id Test id
+     */
+    public void testEnded(String id) {
+        write(event("end", id), true);
+    }
+
+    /**
+     * Flush and close the event file
+     */
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close report event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get the event file path
+     * @return Event file path
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    private static Map<String, Object> event(String type, String id) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", type);
+        event.put("id", id);
+        event.put("time", System.currentTimeMillis());
+        return event;
+    }
+
+    private synchronized void write(Map<String, Object> event, boolean flush) {
+        StringBuilder line = new StringBuilder(128);
+        JSON.newOutput(line).setPrettyPrint(false).write(event);
+        try {
+            writer.write(line.toString());
+            writer.newLine();
+            if (flush) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write report event", e);
+        }
+    }
+
+    /**
+     * Replay an event file into a report
+     * Screenshots may arrive after their test ended, so tests are looked up by id for every event
+     * @param file Event file to read
+     * @param reports Report to populate
+     * @return Number of tests replayed
+     */
+    public static int replay(Path file, ExtentReports reports) throws IOException {
+        Map<String, ExtentTest> tests = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, Object> event;
+                try {
+                    event = JSON.toType(line, Json.MAP_TYPE);
+                } catch (RuntimeException e) {
+                    // Last line of an aborted run may be truncated
+                    logger.warn("Skipping unreadable report event: " + e.getMessage());
+                    continue;
+                }
+                String id = String.valueOf(event.get("id"));
+                switch (String.valueOf(event.get("type"))) {
+                    case "test":
+                        tests.put(id, reports.createTest((String) event.get("name"), (String) event.get("description")));
+                        break;
+                    case "log":
+                        ExtentTest logTest = tests.get(id);
+                        if (logTest != null) {
+                            logTest.log(Status.valueOf((String) event.get("status")), (String) event.get("message"));
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return tests.size();
+    }
+}
@@ -0,0 +1,314 @@
+package com.cts.mmt.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+/**
+ * RequestBlocker - Blocks requests matched by the session's {@link BlockingProfile}
+ * With the HTTP cache on, blocked requests get an empty 204 from the NetworkInterceptor without
+ * leaving the browser. Without it, {@link #apply} hands the profile to the browser as URL patterns
+ * and the blocked requests are counted from DevTools Network.loadingFailed events instead.
+ * Requests that are let through are timed per resource type and host, and each blocked request is
+ * credited with the average time its host or type took - that is the "request time avoided" in
+ * the report. Hosts a profile blocks are only timed by runs with another profile, so the averages
+ * are kept across runs in history.dir and merged per fork under a lock like {@link AdaptiveTimeouts}
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class RequestBlocker {
+
+    private static final Logger logger = LogManager.getLogger(RequestBlocker.class);
+    private static final String HISTORY_FILE_NAME = "request-latency.tsv";
+
+    // Samples kept per key; older runs are halved out so the average follows the site
+    private static final long MAX_SAMPLES = 1_000;
+
+    // Requests seen by a DevTools session and not finished yet, bounded for requests that never finish
+    private static final int MAX_PENDING = 512;
+
+    // "type:image" / "host:www.google-analytics.com" -> {count, total millis} of requests let through,
+    // loaded from the previous runs on first use
+    private static final Map<String, Average> latency = load(historyFile());
+
+    // key -> what this run timed, merged into the history file by save()
+    private static final Map<String, Average> recorded = new ConcurrentHashMap<>();
+
+    private static final AtomicLong blocked = new AtomicLong();
+    private static final AtomicLong blockedMillis = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private RequestBlocker() {
+    }
+
+    /**
+     * Check if request blocking is configured for any test class
+     * @return true if a blocking profile can apply
+     */
+    public static boolean isEnabled() {
+        return BlockingProfile.isAnyConfigured();
+    }
+
+    /**
+     * Block a profile's requests in the browser itself, replacing the previous profile
+     * @param devTools DevTools session of a browser without a NetworkInterceptor, see {@link #listen}
+     * @param profile Profile to apply, {@link BlockingProfile#NONE} to unblock everything
+     */
+    public static void apply(DevTools devTools, BlockingProfile profile) {
+        List<String> patterns = profile.toUrlPatterns();
+        devTools.send(new Command<Void>("Network.setBlockedURLs", Map.of("urls", patterns)));
+    }
+
+    /**
+     * Time and count the requests of a browser that blocks by URL pattern
+     * Network.setBlockedURLs applies to the DevTools session that sends it, so {@link #apply} must
+     * use the same session for the blocked requests to show up here
+     * @param devTools DevTools session of the browser
+     * @param session Session whose active profile decides what was blocked
+     */
+    public static void listen(DevTools devTools, NetworkSession session) {
+        Map<String, Pending> pending = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Pending> eldest) {
+                return size() > MAX_PENDING;
+            }
+        };
+
+        devTools.addListener(event("Network.requestWillBeSent"), params -> {
+            Object request = params.get("request");
+            URI uri = request instanceof Map<?, ?> map ? uriOf(String.valueOf(map.get("url"))) : null;
+            if (uri != null) {
+                synchronized (pending) {
+                    pending.put(String.valueOf(params.get("requestId")), new Pending(uri, secondsOf(params)));
+                }
+            }
+        });
+        devTools.addListener(event("Network.loadingFinished"), params -> {
+            Pending request;
+            synchronized (pending) {
+                request = pending.remove(String.valueOf(params.get("requestId")));
+            }
+            if (request != null) {
+                timed(request.uri(), Math.round((secondsOf(params) - request.startSeconds()) * 1000));
+            }
+        });
+        devTools.addListener(event("Network.loadingFailed"), params -> {
+            Pending request;
+            synchronized (pending) {
+                request = pending.remove(String.valueOf(params.get("requestId")));
+            }
+            // blockedReason "inspector" is Network.setBlockedURLs; other reasons are the page's own
+            if (request != null && "inspector".equals(params.get("blockedReason"))) {
+                credit(session, request.uri(), session.getBlockingProfile().match(request.uri()));
+            }
+        });
+    }
+
+    /**
+     * Create the interception filter for one browser session
+     * @param session Session whose active profile decides what is blocked
+     * @return Blocking filter
+     */
+    public static Filter filter(NetworkSession session) {
+        return next -> request -> {
+            URI uri = uriOf(request.getUri());
+            if (uri == null) {
+                return next.execute(request);
+            }
+
+            String rule = session.getBlockingProfile().match(uri);
+            if (rule != null) {
+                credit(session, uri, rule);
+                return new HttpResponse().setStatus(204).addHeader("X-Blocked-By", session.getBlockingProfile().getName());
+            }
+
+            long start = System.nanoTime();
+            HttpResponse response = next.execute(request);
+            timed(uri, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return response;
+        };
+    }
+
+    /**
+     * Get suite-wide blocking statistics for the report
+     * @return Summary text
+     */
+    public static String getSummary() {
+        return blocked.get() + " requests blocked, ~" + blockedMillis.get() + " ms of request time avoided";
+    }
+
+    /**
+     * Merge this run's request times into the history file for the next run
+     * The file is re-read under a lock, so forks saving at the same time each add their own samples
+     */
+    public static void save() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        Path file = historyFile();
+        Path lockFile = file.resolveSibling(HISTORY_FILE_NAME + ".lock");
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                Map<String, Average> merged = new TreeMap<>(load(file));
+                for (Map.Entry<String, Average> entry : recorded.entrySet()) {
+                    Average average = entry.getValue();
+                    merged.computeIfAbsent(entry.getKey(), key -> new Average()).add(average.count.get(), average.totalMillis.get());
+                }
+                Path temp = file.resolveSibling(HISTORY_FILE_NAME + ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    for (Map.Entry<String, Average> entry : merged.entrySet()) {
+                        Average average = entry.getValue();
+                        writer.write(entry.getKey() + "\t" + average.count.get() + "\t" + average.totalMillis.get());
+                        writer.newLine();
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                recorded.clear();
+                logger.info("Saved request latency history for " + merged.size() + " types and hosts to " + file);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to save request latency history: " + e.getMessage());
+        }
+    }
+
+    private static void credit(NetworkSession session, URI uri, String rule) {
+        if (rule == null && uri.getHost() != null) {
+            // The profile changed while the request was in flight - credit it by host
+            rule = "host:" + uri.getHost().toLowerCase(Locale.ROOT);
+        }
+        long estimate = rule != null ? averageOf(rule) : 0;
+        String type = BlockingProfile.typeOf(uri);
+        if (estimate == 0 && type != null) {
+            // A host never timed yet - fall back to its resource type
+            estimate = averageOf("type:" + type);
+        }
+        session.requestBlocked(estimate);
+        blocked.incrementAndGet();
+        blockedMillis.addAndGet(estimate);
+    }
+
+    private static void timed(URI uri, long millis) {
+        if (millis < 0) {
+            return;
+        }
+        String type = BlockingProfile.typeOf(uri);
+        if (type != null) {
+            add("type:" + type, millis);
+        }
+        if (uri.getHost() != null) {
+            add("host:" + uri.getHost().toLowerCase(Locale.ROOT), millis);
+        }
+    }
+
+    private static void add(String key, long millis) {
+        latency.computeIfAbsent(key, name -> new Average()).add(1, millis);
+        recorded.computeIfAbsent(key, name -> new Average()).add(1, millis);
+    }
+
+    private static long averageOf(String key) {
+        Average average = latency.get(key);
+        return average != null ? average.get() : 0;
+    }
+
+    private static URI uriOf(String url) {
+        try {
+            return URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static double secondsOf(Map<String, Object> params) {
+        // DevTools timestamps are monotonic seconds, comparable within one browser
+        Object timestamp = params.get("timestamp");
+        return timestamp instanceof Number number ? number.doubleValue() : 0;
+    }
+
+    private static Path historyFile() {
+        return Paths.get(ConfigReader.getInstance().getHistoryDir(), HISTORY_FILE_NAME);
+    }
+
+    private static Map<String, Average> load(Path file) {
+        Map<String, Average> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(file)) {
+            return loaded;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                // key, count, total millis
+                String[] parts = line.split("\t");
+                if (parts.length < 3) {
+                    continue;
+                }
+                Average average = new Average();
+                average.add(Long.parseLong(parts[1].trim()), Long.parseLong(parts[2].trim()));
+                loaded.put(parts[0], average);
+            }
+            logger.info("Loaded request latency history for " + loaded.size() + " types and hosts");
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Failed to read request latency history, starting empty: " + e.getMessage());
+        }
+        return loaded;
+    }
+
+    /**
+     * Request seen by a DevTools session, waiting for its loadingFinished or loadingFailed event
+     */
+    private record Pending(URI uri, double startSeconds) {
+    }
+
+    /**
+     * Running mean of request times
+     */
+    private static final class Average {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalMillis = new AtomicLong();
+
+        private synchronized void add(long samples, long millis) {
+            long total = totalMillis.addAndGet(millis);
+            if (count.addAndGet(samples) > MAX_SAMPLES) {
+                count.set(count.get() / 2);
+                totalMillis.set(total / 2);
+            }
+        }
+
+        private long get() {
+            long samples = count.get();
+            return samples == 0 ? 0 : totalMillis.get() / samples;
+        }
+    }
+}
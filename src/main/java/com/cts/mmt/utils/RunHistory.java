@@ -0,0 +1,447 @@
+package com.cts.mmt.utils;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileLockInterruptionException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * RunHistory - Compact append-only store of test runs: outcome, duration, retries,
+ * driver start time and per-step timings
+ *
+ * Three files in history.dir:
+ * <ul>
+ *   <li>runs.dat - header, then length-prefixed binary records; each record points back to the
+ *       previous record of the same test</li>
+ *   <li>runs.idx - memory-mapped table of the newest record offset per test id, so "last N runs
+ *       of X" follows N back-pointers instead of scanning the file</li>
+ *   <li>names.txt - test and step names, one per line; the line number is the id used in records</li>
+ * </ul>
+ * The index is derived data: records it has not seen (or a missing/corrupt index) are re-indexed
+ * on open, and a torn record at the end of runs.dat is dropped. Every append holds a lock on
+ * runs.dat, so parallel forks sharing history.dir take turns and pick up each other's names and
+ * records first. Where the file cannot be locked the store is read-only: the index is then built
+ * in memory and no file is changed. Open one instance per directory and JVM ({@link #shared()})
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public final class RunHistory implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(RunHistory.class);
+
+    private static final int MAGIC = 0x4D4D5448;   // "MMTH"
+    private static final int VERSION = 1;
+    private static final int DATA_HEADER_BYTES = 8;
+    private static final int INDEX_HEADER_BYTES = 8;
+    private static final int INITIAL_INDEX_SLOTS = 1024;
+    // previous offset, timestamp, test id, outcome, duration, retries, driver start, step count
+    private static final int FIXED_RECORD_BYTES = 8 + 8 + 4 + 1 + 4 + 2 + 4 + 2;
+    private static final int STEP_BYTES = 8;
+
+    private static volatile RunHistory shared;
+
+    /**
+     * Final outcome of a test run
+     */
+    public enum Outcome {
+        PASS, FAIL, SKIP
+    }
+
+    /**
+     * One test run
+     * @param test Test key, "Class#method"
+     * @param timestamp End of the run, epoch milliseconds
+     * @param outcome Final outcome
+     * @param durationMillis Test method duration
+     * @param retries Attempts retried before the final outcome
+     * @param driverStartMillis Time spent getting a browser, -1 if the test used none
+     * @param stepMillis Step name to total milliseconds spent in it
+     */
+    public record Run(String test, long timestamp, Outcome outcome, int durationMillis, int retries,
+                      int driverStartMillis, Map<String, Integer> stepMillis) {
+    }
+
+    private final FileChannel data;
+    private final FileChannel indexChannel;
+    private final boolean writable;
+    private final Path namesFile;
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private long namesBytes;
+    // Mapped runs.idx when writable, a heap copy when read-only
+    private ByteBuffer index;
+    private int slots;
+
+    private RunHistory(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        this.namesFile = dir.resolve("names.txt");
+        this.data = FileChannel.open(dir.resolve("runs.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileLock lock = lock(dir);
+        this.writable = lock != null;
+        try {
+            checkHeader();
+            readNames();
+
+            int slotCount = Math.max(INITIAL_INDEX_SLOTS, Integer.highestOneBit(Math.max(1, names.size())) * 2);
+            if (writable) {
+                this.indexChannel = FileChannel.open(dir.resolve("runs.idx"),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                slotCount = Math.max(slotCount, slotsIn(indexChannel.size()));
+            } else {
+                this.indexChannel = null;
+            }
+            mapIndex(slotCount);
+            long indexed = index.getLong(0);
+            if (indexed < DATA_HEADER_BYTES || indexed > data.size()) {
+                for (int i = 0; i < slots; i++) {
+                    index.putLong(slotOffset(i), 0);
+                }
+                indexed = DATA_HEADER_BYTES;
+            }
+            catchUp(indexed);
+        } finally {
+            if (lock != null) {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Open a store, creating it if needed
+     * @param dir Directory of the store files
+     * @return Store
+     * @throws IOException if the files cannot be opened or are not a run history
+     */
+    public static RunHistory open(Path dir) throws IOException {
+        return new RunHistory(dir);
+    }
+
+    /**
+     * Get the store in history.dir, opened on first use and kept open for the JVM
+     * @return Shared store, or null if it cannot be opened
+     */
+    public static RunHistory shared() {
+        RunHistory history = shared;
+        if (history == null) {
+            synchronized (RunHistory.class) {
+                history = shared;
+                if (history == null) {
+                    Path dir = Paths.get(ConfigReader.getInstance().getHistoryDir());
+                    try {
+                        history = open(dir);
+                        shared = history;
+                    } catch (IOException e) {
+                        logger.warn("Run history unavailable at " + dir + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Append a run
+     * Failures are logged rather than thrown - history must never fail a test
+     * @param run Run to store
+     */
+    public synchronized void append(Run run) {
+        if (!writable) {
+            return;
+        }
+        // Waits while another fork appends
+        try (FileLock lock = data.lock()) {
+            sync();
+            int testId = idOf(run.test());
+            int[] stepIds = new int[run.stepMillis().size()];
+            int[] stepValues = new int[stepIds.length];
+            int i = 0;
+            for (Map.Entry<String, Integer> step : run.stepMillis().entrySet()) {
+                stepIds[i] = idOf(step.getKey());
+                stepValues[i++] = step.getValue();
+            }
+
+            int length = FIXED_RECORD_BYTES + stepIds.length * STEP_BYTES;
+            ByteBuffer record = ByteBuffer.allocate(4 + length);
+            record.putInt(length)
+                    .putLong(index.getLong(slotOffset(testId)))
+                    .putLong(run.timestamp())
+                    .putInt(testId)
+                    .put((byte) run.outcome().ordinal())
+                    .putInt(run.durationMillis())
+                    .putShort((short) Math.min(Short.MAX_VALUE, run.retries()))
+                    .putInt(run.driverStartMillis())
+                    .putShort((short) stepIds.length);
+            for (int s = 0; s < stepIds.length; s++) {
+                record.putInt(stepIds[s]).putInt(stepValues[s]);
+            }
+            record.flip();
+
+            long position = data.size();
+            while (record.hasRemaining()) {
+                data.write(record, position + record.position());
+            }
+            index.putLong(slotOffset(testId), position);
+            index.putLong(0, position + 4 + length);
+        } catch (IOException e) {
+            logger.warn("Failed to append run of " + run.test() + " to the run history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get the most recent runs of a test
+     * @param test Test key, "Class#method"
+     * @param limit Maximum number of runs
+     * @return Runs, newest first
+     */
+    public synchronized List<Run> last(String test, int limit) {
+        Integer id = ids.get(test);
+        if (id == null || id >= slots) {
+            return List.of();
+        }
+        List<Run> runs = new ArrayList<>();
+        long offset = index.getLong(slotOffset(id));
+        try {
+            long[] previous = new long[1];
+            while (offset != 0 && runs.size() < limit) {
+                runs.add(read(offset, previous));
+                offset = previous[0];
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read run history of " + test + ": " + e.getMessage());
+        }
+        return runs;
+    }
+
+    /**
+     * Get the durations of the most recent runs of a test
+     * @param test Test key, "Class#method"
+     * @param limit Maximum number of runs
+     * @return Durations in milliseconds, newest first
+     */
+    public long[] lastDurations(String test, int limit) {
+        return last(test, limit).stream().mapToLong(Run::durationMillis).toArray();
+    }
+
+    /**
+     * Get every test that has runs in the store
+     * @return Test keys, sorted
+     */
+    public synchronized Set<String> tests() {
+        Set<String> tests = new TreeSet<>();
+        for (int id = 0; id < Math.min(names.size(), slots); id++) {
+            if (index.getLong(slotOffset(id)) != 0) {
+                tests.add(names.get(id));
+            }
+        }
+        return tests;
+    }
+
+    /**
+     * Check if runs can be appended
+     * @return false if the store could not be locked and was opened read-only
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (index instanceof MappedByteBuffer mapped) {
+            mapped.force();
+        }
+        if (indexChannel != null) {
+            indexChannel.close();
+        }
+        data.close();
+    }
+
+    /**
+     * Lock runs.dat for opening, waiting while another fork appends
+     * @return Lock, or null if the file cannot be locked and the store must stay read-only
+     */
+    private FileLock lock(Path dir) throws IOException {
+        try {
+            return data.lock();
+        } catch (FileLockInterruptionException e) {
+            throw e;
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warn("Run history " + dir + " cannot be locked (" + e.getMessage() + ") - opening it read-only");
+            return null;
+        }
+    }
+
+    /**
+     * Pick up the names, index growth and records other forks appended since this store last looked
+     * Called with runs.dat locked
+     */
+    private void sync() throws IOException {
+        if (Files.exists(namesFile) && Files.size(namesFile) != namesBytes) {
+            readNames();
+        }
+        int shared = slotsIn(indexChannel.size());
+        if (shared > slots) {
+            mapIndex(shared);
+        }
+        catchUp(index.getLong(0));
+    }
+
+    private void readNames() throws IOException {
+        if (!Files.exists(namesFile)) {
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(namesFile);
+        String[] lines = new String(bytes, StandardCharsets.UTF_8).split("\n");
+        // A name without its newline was torn by a crash and is left out
+        int complete = bytes.length > 0 && bytes[bytes.length - 1] == '\n' ? lines.length : lines.length - 1;
+        for (int i = names.size(); i < complete; i++) {
+            ids.put(lines[i], i);
+            names.add(lines[i]);
+        }
+        namesBytes = bytes.length;
+    }
+
+    private void checkHeader() throws IOException {
+        if (data.size() < DATA_HEADER_BYTES) {
+            if (!writable) {
+                // Nothing recorded yet, e.g. the first of several forks to start - an empty history
+                return;
+            }
+            ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+            header.flip();
+            data.write(header, 0);
+            return;
+        }
+        ByteBuffer header = readFully(0, DATA_HEADER_BYTES);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a version " + VERSION + " run history file");
+        }
+    }
+
+    /**
+     * Index the records appended after the index was last written
+     */
+    private void catchUp(long from) throws IOException {
+        long position = from;
+        long size = data.size();
+        int indexedRecords = 0;
+        while (position + 4 + FIXED_RECORD_BYTES <= size) {
+            ByteBuffer head = readFully(position, 4 + 8 + 8 + 4);
+            int length = head.getInt(0);
+            if (length < FIXED_RECORD_BYTES || position + 4 + length > size) {
+                break;
+            }
+            int testId = head.getInt(4 + 8 + 8);
+            ensureSlot(testId);
+            index.putLong(slotOffset(testId), position);
+            position += 4 + length;
+            indexedRecords++;
+        }
+        if (position < size && writable) {
+            logger.warn("Dropping " + (size - position) + " bytes of an incomplete record at the end of the run history");
+            data.truncate(position);
+        }
+        index.putLong(0, position);
+        if (indexedRecords > 0) {
+            logger.info("Indexed " + indexedRecords + " run history records");
+        }
+    }
+
+    private Run read(long offset, long[] previous) throws IOException {
+        int length = readFully(offset, 4).getInt(0);
+        ByteBuffer record = readFully(offset + 4, length);
+        previous[0] = record.getLong();
+        long timestamp = record.getLong();
+        String test = nameOf(record.getInt());
+        Outcome outcome = Outcome.values()[record.get()];
+        int duration = record.getInt();
+        int retries = record.getShort();
+        int driverStart = record.getInt();
+        int stepCount = record.getShort();
+        Map<String, Integer> steps = new LinkedHashMap<>();
+        for (int i = 0; i < stepCount; i++) {
+            steps.put(nameOf(record.getInt()), record.getInt());
+        }
+        return new Run(test, timestamp, outcome, duration, retries, driverStart, Collections.unmodifiableMap(steps));
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (data.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Run history ends inside a record at " + position);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private int idOf(String name) throws IOException {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        // Name first, so a record never refers to an id that was not persisted
+        byte[] line = (name + "\n").getBytes(StandardCharsets.UTF_8);
+        Files.write(namesFile, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        namesBytes += line.length;
+        id = names.size();
+        names.add(name);
+        ids.put(name, id);
+        ensureSlot(id);
+        return id;
+    }
+
+    private String nameOf(int id) {
+        return id < names.size() ? names.get(id) : "#" + id;
+    }
+
+    private void ensureSlot(int id) throws IOException {
+        if (id >= slots) {
+            mapIndex(Integer.highestOneBit(id) * 2);
+        }
+    }
+
+    private void mapIndex(int slotCount) throws IOException {
+        long bytes = INDEX_HEADER_BYTES + (long) slotCount * 8;
+        if (writable) {
+            // Mapping past the end grows the file; new slots read as 0 (no record)
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        } else {
+            ByteBuffer grown = ByteBuffer.allocate((int) bytes);
+            if (index != null) {
+                grown.put(index.duplicate().clear()).clear();
+            }
+            index = grown;
+        }
+        slots = slotCount;
+    }
+
+    private static int slotsIn(long indexBytes) {
+        return (int) Math.max(0, (indexBytes - INDEX_HEADER_BYTES) / 8);
+    }
+
+    private static int slotOffset(int id) {
+        return INDEX_HEADER_BYTES + id * 8;
+    }
+}
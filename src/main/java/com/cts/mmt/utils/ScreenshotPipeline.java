@@ -0,0 +1,206 @@
+package com.cts.mmt.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+/**
+ * ScreenshotPipeline - Background encoder for screenshots captured on the test thread
+ * The test thread only grabs raw PNG bytes; compression, downscaling, writing and report
+ * attachment run on a bounded executor. When the queue is full the caller encodes the
+ * screenshot itself, which throttles producers instead of growing the heap
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class ScreenshotPipeline {
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotPipeline.class);
+
+    // Replaced by a fresh executor on every drain, so a later suite in the same JVM can still submit
+    private static volatile ThreadPoolExecutor executor = createExecutor();
+
+    // Metrics reported at the end of the suite
+    private static final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private static final AtomicLong encodedCount = new AtomicLong();
+    private static final AtomicLong encodeNanos = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ScreenshotPipeline() {
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        ConfigReader config = ConfigReader.getInstance();
+        int threads = Math.max(1, config.getScreenshotPipelineThreads());
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getScreenshotPipelineQueueSize())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-encoder");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Unlike CallerRunsPolicy, also encodes on the caller when the pool was already shut down
+                (task, rejectedBy) -> task.run());
+        return pool;
+    }
+
+    /**
+     * Queue a raw screenshot for encoding, writing and attachment to the report
+     * The file name is built on the pipeline thread, see {@link ScreenshotUtil#buildFileName(String, long, long)}
+     * @param pngBytes Raw PNG bytes returned by the driver
+     * @param screenshotName Base name, e.g. the test name
+     * @param capturedAtMillis Capture time in epoch milliseconds
+     * @param extentTest Test to attach the screenshot to (may be null)
+     */
+    public static void submit(byte[] pngBytes, String screenshotName, long capturedAtMillis, ExtentTest extentTest) {
+        if (pngBytes == null) {
+            return;
+        }
+        long threadId = Thread.currentThread().threadId();
+        ThreadPoolExecutor pool = executor;
+        pool.execute(() -> encodeAndAttach(pngBytes,
+                ScreenshotUtil.buildFileName(screenshotName, capturedAtMillis, threadId), extentTest));
+        maxQueueDepth.accumulateAndGet(pool.getQueue().size(), Math::max);
+    }
+
+    /**
+     * Wait for every queued screenshot to be written and attached
+     * Must be called before the report is flushed; later submissions go to a new executor
+     */
+    public static void drain() {
+        ThreadPoolExecutor draining;
+        synchronized (ScreenshotPipeline.class) {
+            draining = executor;
+            executor = createExecutor();
+        }
+        draining.shutdown();
+        try {
+            if (!draining.awaitTermination(ConfigReader.getInstance().getScreenshotPipelineDrainTimeout(), TimeUnit.SECONDS)) {
+                logger.warn("Screenshot pipeline did not drain in time, " + draining.getQueue().size() + " screenshots dropped");
+                draining.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Screenshot pipeline drained: " + getSummary());
+    }
+
+    /**
+     * Get a one-line summary of pipeline metrics for the report
+     * @return Summary of screenshot count, max queue depth and average encode time
+     */
+    public static String getSummary() {
+        long count = encodedCount.get();
+        long averageMillis = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(encodeNanos.get() / count);
+        return count + " screenshots, max queue depth " + maxQueueDepth.get() + ", avg encode " + averageMillis + " ms";
+    }
+
+    private static void encodeAndAttach(byte[] pngBytes, String fileName, ExtentTest extentTest) {
+        long start = System.nanoTime();
+        try {
+            ScreenshotStore.StoredScreenshot stored = encode(pngBytes, fileName);
+            encodeNanos.addAndGet(System.nanoTime() - start);
+            encodedCount.incrementAndGet();
+            logger.info("Screenshot captured: " + fileName + " -> " + stored.reference());
+
+            if (extentTest != null) {
+                ExtentManager.attachScreenshot(extentTest, Status.FAIL,
+                        "Screenshot on failure (" + stored.reference() + ")", stored.path());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to encode screenshot " + fileName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Downscale and compress a screenshot, then put it in the content-addressed store
+     * @param pngBytes Raw PNG bytes
+     * @param fileName Name recorded for the stored image
+     * @return Reference to the stored image
+     */
+    private static ScreenshotStore.StoredScreenshot encode(byte[] pngBytes, String fileName) throws IOException {
+        ConfigReader config = ConfigReader.getInstance();
+        String format = "jpg".equalsIgnoreCase(config.getScreenshotFormat()) ? "jpg" : "png";
+
+        int maxWidth = config.getScreenshotMaxWidth();
+        if ("png".equals(format) && maxWidth <= 0) {
+            // Nothing to transform - store the driver's bytes as they are
+            return ScreenshotStore.put(pngBytes, format, fileName);
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(pngBytes));
+        if (image == null) {
+            throw new IOException("Unreadable screenshot data");
+        }
+        image = downscale(image, maxWidth, "jpg".equals(format));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(pngBytes.length / 2);
+        if ("jpg".equals(format)) {
+            writeJpeg(image, out, config.getScreenshotJpegQuality());
+        } else {
+            ImageIO.write(image, "png", out);
+        }
+        return ScreenshotStore.put(out.toByteArray(), format, fileName);
+    }
+
+    /**
+     * Scale an image down to a maximum width, dropping alpha when the target format has none
+     * @param image Source image
+     * @param maxWidth Maximum width in pixels (0 keeps the original size)
+     * @param opaque true to convert to an RGB image
+     * @return Scaled image
+     */
+    static BufferedImage downscale(BufferedImage image, int maxWidth, boolean opaque) {
+        boolean resize = maxWidth > 0 && image.getWidth() > maxWidth;
+        if (!resize && !opaque) {
+            return image;
+        }
+        int width = resize ? maxWidth : image.getWidth();
+        int height = resize ? (int) Math.round((double) image.getHeight() * maxWidth / image.getWidth()) : image.getHeight();
+        BufferedImage scaled = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static void writeJpeg(BufferedImage image, ByteArrayOutputStream out, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.cts.mmt.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ScreenshotStore - Content-addressed, de-duplicated storage for screenshots
+ * Each image is stored once under its SHA-256 hash in sharded sub-directories
+ * (ab/cd/abcd...png). A small manifest tracks size and last use of every blob so
+ * retention never has to list the screenshot directory; it is compacted on load and
+ * the name records of evicted blobs are pruned by retention
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class ScreenshotStore {
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotStore.class);
+    private static final String MANIFEST_FILE = "manifest.tsv";
+    private static final String NAMES_FILE = "names.tsv";
+
+    // A repeated image refreshes its manifest line at most this often; retention works in days
+    private static final long LAST_USED_RESOLUTION_MILLIS = 60 * 60 * 1000L;
+
+    private static final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    // hash -> blob entry, loaded lazily from the manifest
+    private static Map<String, Entry> index;
+
+    private static final AtomicLong storedCount = new AtomicLong();
+    private static final AtomicLong duplicateCount = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ScreenshotStore() {
+    }
+
+    /**
+     * Store image bytes, returning the existing copy if the same image was stored before
+     * @param bytes Encoded image bytes
+     * @param extension File extension (png/jpg)
+     * @param name Human readable name recorded for the reference (e.g. test name)
+     * @return Stable reference to the stored image
+     */
+    public static StoredScreenshot put(byte[] bytes, String extension, String name) throws IOException {
+        MessageDigest digest = sha256.get();
+        digest.reset();
+        String hash = HexFormat.of().formatHex(digest.digest(bytes));
+        Path root = getRoot();
+        Path target = root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + "." + extension);
+
+        boolean existing = Files.exists(target);
+        if (existing) {
+            duplicateCount.incrementAndGet();
+        } else {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            } catch (FileAlreadyExistsException e) {
+                // Another thread stored the same image first
+                Files.deleteIfExists(temp);
+            }
+            storedCount.incrementAndGet();
+        }
+
+        long now = System.currentTimeMillis();
+        String relativePath = root.relativize(target).toString().replace('\\', '/');
+        synchronized (ScreenshotStore.class) {
+            Map<String, Entry> entries = getIndex();
+            Entry previous = entries.put(hash, new Entry(hash, relativePath, bytes.length, now));
+            if (previous == null || now - previous.lastUsed >= LAST_USED_RESOLUTION_MILLIS) {
+                appendLine(root.resolve(MANIFEST_FILE), hash + "\t" + relativePath + "\t" + bytes.length + "\t" + now);
+            }
+            appendLine(root.resolve(NAMES_FILE), now + "\t" + name + "\t" + hash);
+        }
+        return new StoredScreenshot(hash, target.toString(), existing);
+    }
+
+    /**
+     * Apply the retention policy - drop blobs unused for longer than the max age,
+     * then the least recently used ones until the store fits the size limit
+     * @param maxBytes Maximum total size of the store
+     * @param maxAgeMillis Maximum time since a blob was last stored
+     */
+    public static synchronized void enforceRetention(long maxBytes, long maxAgeMillis) {
+        Map<String, Entry> entries = getIndex();
+        long cutoff = System.currentTimeMillis() - maxAgeMillis;
+        List<Entry> byAge = new ArrayList<>(entries.values());
+        byAge.sort(Comparator.comparingLong(entry -> entry.lastUsed));
+
+        long totalBytes = 0;
+        for (Entry entry : byAge) {
+            totalBytes += entry.size;
+        }
+
+        int removed = 0;
+        Path root = getRoot();
+        for (Entry entry : byAge) {
+            if (entry.lastUsed >= cutoff && totalBytes <= maxBytes) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(root.resolve(entry.relativePath));
+            } catch (IOException e) {
+                logger.warn("Failed to delete screenshot " + entry.relativePath + ": " + e.getMessage());
+                continue;
+            }
+            entries.remove(entry.hash);
+            totalBytes -= entry.size;
+            removed++;
+        }
+
+        if (removed > 0) {
+            rewriteManifest(root, entries);
+            pruneNames(root, entries);
+        }
+        logger.info("Screenshot store retention removed " + removed + " images, "
+                + entries.size() + " images (" + totalBytes / (1024 * 1024) + " MB) kept");
+    }
+
+    /**
+     * Check whether a blob is still stored
+     * @param hash SHA-256 of the image bytes
+     * @return true if retention has not removed it
+     */
+    public static synchronized boolean contains(String hash) {
+        return getIndex().containsKey(hash);
+    }
+
+    /**
+     * Get a one-line summary of de-duplication for the report
+     * @return Summary of stored and de-duplicated screenshots
+     */
+    public static String getSummary() {
+        return storedCount.get() + " new images stored, " + duplicateCount.get() + " duplicates skipped";
+    }
+
+    /**
+     * Get the store root directory
+     * @return Root path of the content-addressed store
+     */
+    public static Path getRoot() {
+        return Paths.get(ScreenshotUtil.getScreenshotPath(), "store");
+    }
+
+    /**
+     * Load the manifest once; later lines for the same hash override earlier ones
+     * A manifest holding superseded lines is compacted right away
+     * @return Index of stored blobs
+     */
+    private static Map<String, Entry> getIndex() {
+        if (index == null) {
+            index = new LinkedHashMap<>();
+            Path manifest = getRoot().resolve(MANIFEST_FILE);
+            if (Files.exists(manifest)) {
+                int lines = 0;
+                try {
+                    for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                        String[] parts = line.split("\t");
+                        if (parts.length == 4) {
+                            index.put(parts[0], new Entry(parts[0], parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+                        }
+                        lines++;
+                    }
+                } catch (IOException | NumberFormatException e) {
+                    logger.warn("Failed to read screenshot manifest, starting empty: " + e.getMessage());
+                }
+                if (lines > index.size()) {
+                    rewriteManifest(getRoot(), index);
+                }
+            }
+        }
+        return index;
+    }
+
+    private static void appendLine(Path file, String line) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static void rewriteManifest(Path root, Map<String, Entry> entries) {
+        Path manifest = root.resolve(MANIFEST_FILE);
+        Path temp = root.resolve(MANIFEST_FILE + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Entry entry : entries.values()) {
+                writer.write(entry.hash + "\t" + entry.relativePath + "\t" + entry.size + "\t" + entry.lastUsed);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to compact screenshot manifest: " + e.getMessage());
+            return;
+        }
+        try {
+            Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to replace screenshot manifest: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop name records of blobs that are no longer stored
+     * @param root Store root directory
+     * @param entries Blobs still stored
+     */
+    private static void pruneNames(Path root, Map<String, Entry> entries) {
+        Path names = root.resolve(NAMES_FILE);
+        Path temp = root.resolve(NAMES_FILE + ".tmp");
+        if (!Files.exists(names)) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (String line : Files.readAllLines(names, StandardCharsets.UTF_8)) {
+                if (entries.containsKey(line.substring(line.lastIndexOf('\t') + 1))) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to prune screenshot names: " + e.getMessage());
+            return;
+        }
+        try {
+            Files.move(temp, names, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to replace screenshot names: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Manifest entry for one stored blob
+     */
+    private static final class Entry {
+        private final String hash;
+        private final String relativePath;
+        private final long size;
+        private final long lastUsed;
+
+        private Entry(String hash, String relativePath, long size, long lastUsed) {
+            this.hash = hash;
+            this.relativePath = relativePath;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * Stable reference to a stored screenshot
+     * @param hash SHA-256 of the image bytes
+     * @param path Path of the stored file
+     * @param duplicate true if the image was already in the store
+     */
+    public record StoredScreenshot(String hash, String path, boolean duplicate) {
+
+        /**
+         * Get the reference used in logs and reports
+         * @return sha256:&lt;hash&gt;
+         */
+        public String reference() {
+            return "sha256:" + hash;
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package com.cts.mmt.utils;
 
-import java.io.File;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
@@ -15,6 +16,7 @@ import org.openqa.selenium.WebDriver;
 /**
  * ScreenshotUtil - Utility class for capturing screenshots
  * Used for capturing screenshots on test failures
+ * Safe for concurrent callers - file names include the calling thread id
  * 
  * @author CTS Automation Team
  * @version 1.0
@@ -23,13 +25,15 @@ public class ScreenshotUtil {
 
     private static final Logger logger = LogManager.getLogger(ScreenshotUtil.class);
     private static final String SCREENSHOT_PATH = "test-output/screenshots/";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
 
     /**
-     * Capture screenshot and save to file
+     * Capture screenshot and save it to the content-addressed screenshot store
+     * Identical screenshots are stored only once
      * 
      * @param driver WebDriver instance
-     * @param screenshotName Name for the screenshot file
-     * @return Path to the saved screenshot
+     * @param screenshotName Name recorded for the screenshot
+     * @return Path to the stored screenshot
      */
     public static String captureScreenshot(WebDriver driver, String screenshotName) {
         if (driver == null) {
@@ -37,34 +41,67 @@ public class ScreenshotUtil {
             return null;
         }
 
-        // Generate unique filename with timestamp
-        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-        String fileName = screenshotName + "_" + timestamp + ".png";
-        String filePath = SCREENSHOT_PATH + fileName;
-
         try {
-            // Create screenshots directory if not exists
-            File screenshotDir = new File(SCREENSHOT_PATH);
-            if (!screenshotDir.exists()) {
-                screenshotDir.mkdirs();
-            }
-
             // Capture screenshot
             TakesScreenshot ts = (TakesScreenshot) driver;
-            File source = ts.getScreenshotAs(OutputType.FILE);
-            File destination = new File(filePath);
+            byte[] screenshot = ts.getScreenshotAs(OutputType.BYTES);
 
-            // Copy screenshot to destination
-            FileUtils.copyFile(source, destination);
-            logger.info("Screenshot captured: " + filePath);
+            // Store screenshot under its content hash
+            ScreenshotStore.StoredScreenshot stored = ScreenshotStore.put(screenshot, "png", buildFileName(screenshotName));
+            logger.info("Screenshot captured: " + stored.path() + " (" + stored.reference() + ")");
 
-            return filePath;
+            return stored.path();
         } catch (IOException e) {
             logger.error("Failed to capture screenshot: " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Capture raw screenshot bytes on the calling thread
+     * Encoding and writing are left to {@link ScreenshotPipeline}
+     * 
+     * @param driver WebDriver instance
+     * @return PNG bytes, or null if the screenshot could not be taken
+     */
+    public static byte[] captureScreenshotBytes(WebDriver driver) {
+        if (driver == null) {
+            logger.error("Cannot capture screenshot - WebDriver is null");
+            return null;
+        }
+
+        try {
+            return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (Exception e) {
+            logger.error("Failed to capture screenshot bytes: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Build a unique screenshot file name (without extension) from a base name
+     * 
+     * @param screenshotName Base name for the screenshot
+     * @return Base name with timestamp and thread id
+     */
+    public static String buildFileName(String screenshotName) {
+        return buildFileName(screenshotName, System.currentTimeMillis(), Thread.currentThread().threadId());
+    }
+
+    /**
+     * Build the file name of a screenshot taken earlier, e.g. on the screenshot pipeline thread
+     * 
+     * @param screenshotName Base name for the screenshot
+     * @param capturedAtMillis Capture time in epoch milliseconds
+     * @param threadId Id of the thread that captured the screenshot
+     * @return Base name with timestamp and thread id
+     */
+    public static String buildFileName(String screenshotName, long capturedAtMillis, long threadId) {
+        String timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(capturedAtMillis), ZoneId.systemDefault())
+                .format(TIMESTAMP_FORMAT);
+        return screenshotName + "_" + timestamp + "_T" + threadId;
+    }
+
     /**
      * Capture screenshot and return as Base64 string for Extent Reports
      * 
@@ -97,21 +134,14 @@ public class ScreenshotUtil {
     }
 
     /**
-     * Delete all screenshots from the screenshot directory
+     * Apply the screenshot retention policy (total size and age) to the screenshot store,
+     * then remove report attachments of the images it evicted
      * Useful for cleanup before test execution
      */
     public static void cleanScreenshotDirectory() {
-        File screenshotDir = new File(SCREENSHOT_PATH);
-        if (screenshotDir.exists()) {
-            File[] files = screenshotDir.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    if (file.isFile() && file.getName().endsWith(".png")) {
-                        file.delete();
-                    }
-                }
-            }
-            logger.info("Screenshot directory cleaned");
-        }
+        ConfigReader config = ConfigReader.getInstance();
+        ScreenshotStore.enforceRetention(config.getScreenshotStoreMaxSizeMb() * 1024L * 1024L,
+                TimeUnit.DAYS.toMillis(config.getScreenshotStoreMaxAgeDays()));
+        ReportAttachments.prune(ScreenshotStore::contains);
     }
 }
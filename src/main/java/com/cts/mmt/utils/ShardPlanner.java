@@ -0,0 +1,295 @@
+package com.cts.mmt.utils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.annotations.Test;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * ShardPlanner - Splits the suite into K shards of similar expected duration
+ * Uses longest-processing-time-first bin packing: tests are sorted by their duration in previous
+ * runs ({@link TestDurations}) and each goes to the currently lightest shard. Tests without
+ * history are estimated at the median of the known durations, or shard.default.ms when nothing
+ * is known. The plan is deterministic for the same durations; machines with different histories
+ * agree on the split by pinning the durations with -Dshard.plan (written next to the generated suites).
+ *
+ * Run a shard either by filtering the normal suite at runtime (com.cts.mmt.base.ShardSelector)
+ * or from a generated suite file:
+ * <pre>
+ * mvn test -Dshard=2/4
+ * mvn test -Dshard=2/4 -Dshard.plan=target/shards/durations.tsv
+ *
+ * mvn exec:java -Dexec.mainClass=com.cts.mmt.utils.ShardPlanner -Dexec.args="4"
+ * mvn test -Dsuite.file=target/shards/testng-shard-2-of-4.xml
+ * </pre>
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class ShardPlanner {
+
+    private static final Logger logger = LogManager.getLogger(ShardPlanner.class);
+
+    /**
+     * System property naming a pinned durations file, e.g. target/shards/durations.tsv
+     */
+    public static final String PLAN_PROPERTY = "shard.plan";
+
+    private static final String DURATIONS_FILE = "durations.tsv";
+
+    /**
+     * One shard of the plan
+     * @param number Shard number, 1-based
+     * @param of Total number of shards
+     * @param tests Test keys ("Class#method") in the order they were assigned
+     * @param estimatedMillis Sum of the estimated durations
+     */
+    public record Shard(int number, int of, List<String> tests, long estimatedMillis) {
+    }
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ShardPlanner() {
+    }
+
+    /**
+     * Split tests into balanced shards
+     * @param tests Test keys ("Class#method")
+     * @param durations Known durations in milliseconds by test key
+     * @param shards Number of shards
+     * @return Shards 1..K; a shard can be empty when there are fewer tests than shards
+     */
+    public static List<Shard> plan(Collection<String> tests, Map<String, Long> durations, int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1: " + shards);
+        }
+        long fallback = defaultEstimate(tests, durations);
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        for (String test : new TreeSet<>(tests)) {
+            estimates.put(test, durations.getOrDefault(test, fallback));
+        }
+
+        List<String> ordered = new ArrayList<>(estimates.keySet());
+        ordered.sort(Comparator.comparing((String test) -> estimates.get(test)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        List<List<String>> assigned = new ArrayList<>(shards);
+        long[] loads = new long[shards];
+        PriorityQueue<Integer> lightest = new PriorityQueue<>(
+                Comparator.comparingLong((Integer shard) -> loads[shard]).thenComparingInt(shard -> shard));
+        for (int i = 0; i < shards; i++) {
+            assigned.add(new ArrayList<>());
+            lightest.add(i);
+        }
+        for (String test : ordered) {
+            int shard = lightest.poll();
+            assigned.get(shard).add(test);
+            loads[shard] += estimates.get(test);
+            lightest.add(shard);
+        }
+
+        List<Shard> plan = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            plan.add(new Shard(i + 1, shards, List.copyOf(assigned.get(i)), loads[i]));
+        }
+        return plan;
+    }
+
+    /**
+     * Get the durations to plan with: the pinned file named by -Dshard.plan, else the history
+     * @return Test key to duration in milliseconds
+     */
+    public static Map<String, Long> durations() {
+        String pinned = System.getProperty(PLAN_PROPERTY);
+        return pinned != null && !pinned.isBlank() ? TestDurations.read(Paths.get(pinned.trim())) : TestDurations.load();
+    }
+
+    /**
+     * Parse a shard selector such as "2/4"
+     * @param selector "i/K" with 1 &lt;= i &lt;= K
+     * @return {i, K}
+     * @throws IllegalArgumentException for malformed or out of range selectors
+     */
+    public static int[] parseSelector(String selector) {
+        String[] parts = selector.trim().split("/");
+        try {
+            if (parts.length == 2) {
+                int number = Integer.parseInt(parts[0].trim());
+                int of = Integer.parseInt(parts[1].trim());
+                if (number >= 1 && number <= of) {
+                    return new int[] {number, of};
+                }
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid shard selector '" + selector + "', expected i/K with 1 <= i <= K");
+    }
+
+    /**
+     * Describe a plan for logs: one line per shard with its test count and estimated time
+     * @param plan Shards
+     * @return Summary text
+     */
+    public static String describe(List<Shard> plan) {
+        StringBuilder summary = new StringBuilder();
+        for (Shard shard : plan) {
+            summary.append(String.format("shard %d/%d: %d tests, ~%.1f s%n",
+                    shard.number(), shard.of(), shard.tests().size(), shard.estimatedMillis() / 1000.0));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Write one TestNG suite file per shard
+     * Usage: ShardPlanner &lt;shards&gt; [suite file, default testng.xml] [output directory, default target/shards]
+     * @param args Command line arguments
+     * @throws IOException if the suite files cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ShardPlanner <shards> [suite file] [output directory]");
+            System.exit(2);
+        }
+        int shards = Integer.parseInt(args[0].trim());
+        Path suiteFile = Paths.get(args.length > 1 ? args[1] : "testng.xml");
+        Path outputDir = Paths.get(args.length > 2 ? args[2] : "target/shards");
+
+        XmlSuite template = new Parser(suiteFile.toString()).parseToList().get(0);
+        List<String> tests = testsOf(template);
+        Map<String, Long> durations = durations();
+        List<Shard> plan = plan(tests, durations, shards);
+
+        Files.createDirectories(outputDir);
+        Map<String, Long> used = new LinkedHashMap<>();
+        for (String test : tests) {
+            if (durations.containsKey(test)) {
+                used.put(test, durations.get(test));
+            }
+        }
+        TestDurations.write(outputDir.resolve(DURATIONS_FILE), used);
+        for (Shard shard : plan) {
+            Path file = outputDir.resolve("testng-shard-" + shard.number() + "-of-" + shard.of() + ".xml");
+            Files.writeString(file, toSuite(template, shard).toXml(), StandardCharsets.UTF_8);
+        }
+        logger.info("Wrote " + plan.size() + " shard suites to " + outputDir + System.lineSeparator() + describe(plan));
+    }
+
+    /**
+     * List the test methods a suite runs
+     * Classes without &lt;include&gt; contribute every @Test method
+     * @param suite Parsed suite
+     * @return Test keys in suite order
+     */
+    public static List<String> testsOf(XmlSuite suite) {
+        Set<String> tests = new LinkedHashSet<>();
+        for (XmlTest test : suite.getTests()) {
+            tests.addAll(testsOf(test));
+        }
+        return new ArrayList<>(tests);
+    }
+
+    private static Set<String> testsOf(XmlTest test) {
+        Set<String> tests = new LinkedHashSet<>();
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            List<XmlInclude> includes = xmlClass.getIncludedMethods();
+            if (!includes.isEmpty()) {
+                for (XmlInclude include : includes) {
+                    tests.add(TestDurations.keyOf(xmlClass.getName(), include.getName()));
+                }
+                continue;
+            }
+            for (Method method : testMethodsOf(xmlClass.getSupportClass())) {
+                tests.add(TestDurations.keyOf(xmlClass.getName(), method.getName()));
+            }
+        }
+        return tests;
+    }
+
+    private static List<Method> testMethodsOf(Class<?> testClass) {
+        boolean classLevel = testClass.isAnnotationPresent(Test.class);
+        List<Method> methods = new ArrayList<>();
+        for (Method method : testClass.getMethods()) {
+            if (method.isAnnotationPresent(Test.class)
+                    || (classLevel && method.getDeclaringClass() == testClass && method.getReturnType() == void.class)) {
+                methods.add(method);
+            }
+        }
+        methods.sort(Comparator.comparing(Method::getName));
+        return methods;
+    }
+
+    /**
+     * Build the suite of one shard: each &lt;test&gt; block of the template keeps its groups,
+     * parallel mode, thread count and parameters, restricted to the shard's tests it lists
+     */
+    private static XmlSuite toSuite(XmlSuite template, Shard shard) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName(template.getName() + " [shard " + shard.number() + "/" + shard.of() + "]");
+        suite.setParallel(template.getParallel());
+        suite.setThreadCount(template.getThreadCount());
+        suite.setVerbose(template.getVerbose());
+        suite.setParameters(template.getParameters());
+        suite.setListeners(template.getListeners());
+
+        Set<String> selected = Set.copyOf(shard.tests());
+        for (XmlTest block : template.getTests()) {
+            Map<String, List<XmlInclude>> byClass = new LinkedHashMap<>();
+            for (String key : testsOf(block)) {
+                if (selected.contains(key)) {
+                    int hash = key.indexOf('#');
+                    byClass.computeIfAbsent(key.substring(0, hash), name -> new ArrayList<>())
+                            .add(new XmlInclude(key.substring(hash + 1)));
+                }
+            }
+            if (byClass.isEmpty()) {
+                continue;
+            }
+            XmlTest test = new XmlTest(suite);
+            test.setName(block.getName());
+            test.setIncludedGroups(block.getIncludedGroups());
+            test.setExcludedGroups(block.getExcludedGroups());
+            test.setParallel(block.getParallel());
+            test.setThreadCount(block.getThreadCount());
+            test.setParameters(block.getLocalParameters());
+            List<XmlClass> classes = new ArrayList<>();
+            byClass.forEach((name, includes) -> {
+                XmlClass xmlClass = new XmlClass(name, false);
+                xmlClass.setIncludedMethods(includes);
+                classes.add(xmlClass);
+            });
+            test.setXmlClasses(classes);
+        }
+        return suite;
+    }
+
+    private static long defaultEstimate(Collection<String> tests, Map<String, Long> durations) {
+        long[] known = tests.stream().filter(durations::containsKey).mapToLong(durations::get).sorted().toArray();
+        if (known.length == 0) {
+            return ConfigReader.getInstance().getShardDefaultMillis();
+        }
+        return known[known.length / 2];
+    }
+}
@@ -0,0 +1,194 @@
+package com.cts.mmt.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+/**
+ * StepMetrics - Per-step latency instrumentation for page-object actions and waits
+ * Every timed step is recorded into a {@link LatencyHistogram} keyed by its name
+ * (e.g. "CabsPage.clickSearch" or "wait:HomePage.closePopupIfPresent"). At the end
+ * of the suite the p50/p95/p99 table is written as JSON and as an HTML page linked from the
+ * report dashboard
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class StepMetrics {
+
+    private static final Logger logger = LogManager.getLogger(StepMetrics.class);
+    private static final Path METRICS_FILE = Paths.get("test-output", "metrics", "step-metrics.json");
+    private static final Path PAGE_FILE = Paths.get("test-output", "metrics", "step-metrics.html");
+
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    // Step totals of the test running on this thread, for the run history
+    private static final ThreadLocal<Map<String, Long>> testSteps = new ThreadLocal<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private StepMetrics() {
+    }
+
+    /**
+     * Time a page-object action
+     * @param step Step name, e.g. "CabsPage.enterFromCity"
+     * @param action Action to run
+     */
+    public static void time(String step, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            record(step, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Time a page-object action that returns a value
+     * @param step Step name
+     * @param action Action to run
+     * @return Value returned by the action
+     */
+    public static <T> T time(String step, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(step, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Start timing a page-object action that wraps its whole body
+     * Usage: try (StepMetrics.Step step = StepMetrics.step("HotelsPage.openRoomsGuestsDropdown")) { ... }
+     * @param step Step name
+     * @return Running step, recorded when closed
+     */
+    public static Step step(String step) {
+        return new Step(step, System.nanoTime());
+    }
+
+    /**
+     * Record an already measured step
+     * @param step Step name
+     * @param nanos Duration in nanoseconds
+     */
+    public static void record(String step, long nanos) {
+        histograms.computeIfAbsent(step, name -> new LatencyHistogram()).record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        Map<String, Long> steps = testSteps.get();
+        if (steps != null) {
+            steps.merge(step, nanos, Long::sum);
+        }
+    }
+
+    /**
+     * Start collecting per-step totals for the test on the current thread
+     */
+    public static void startTest() {
+        testSteps.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Stop collecting for the current thread
+     * @return Step name to total nanoseconds spent in it by this test, in first-seen order
+     */
+    public static Map<String, Long> stopTest() {
+        Map<String, Long> steps = testSteps.get();
+        testSteps.remove();
+        return steps != null ? steps : Map.of();
+    }
+
+    /**
+     * Get the histogram of a step
+     * @param step Step name
+     * @return Histogram, or null if the step was never recorded
+     */
+    public static LatencyHistogram getHistogram(String step) {
+        return histograms.get(step);
+    }
+
+    /**
+     * Write the step latency table and JSON summary, and link the table from the report dashboard
+     */
+    public static void publish() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        Map<String, LatencyHistogram> sorted = new TreeMap<>(histograms);
+
+        StringBuilder table = new StringBuilder("<table class='table table-sm'><tr><th>Step</th><th>Count</th>"
+                + "<th>p50 (ms)</th><th>p95 (ms)</th><th>p99 (ms)</th><th>Max (ms)</th></tr>");
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : sorted.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            table.append("<tr><td>").append(entry.getKey()).append("</td><td>").append(histogram.getCount())
+                    .append("</td><td>").append(millis(histogram.getPercentileMicros(50)))
+                    .append("</td><td>").append(millis(histogram.getPercentileMicros(95)))
+                    .append("</td><td>").append(millis(histogram.getPercentileMicros(99)))
+                    .append("</td><td>").append(millis(histogram.getMaxMicros())).append("</td></tr>");
+
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("step", entry.getKey());
+            step.put("count", histogram.getCount());
+            step.put("meanMicros", histogram.getMeanMicros());
+            step.put("p50Micros", histogram.getPercentileMicros(50));
+            step.put("p95Micros", histogram.getPercentileMicros(95));
+            step.put("p99Micros", histogram.getPercentileMicros(99));
+            step.put("maxMicros", histogram.getMaxMicros());
+            steps.add(step);
+        }
+        table.append("</table>");
+
+        try {
+            String href = ReportAttachments.publishPage(PAGE_FILE, "Step Latency", table.toString());
+            ExtentManager.setSystemInfo("Step Latency", "<a href='" + href + "' target='_blank'>p50/p95/p99 of "
+                    + sorted.size() + " page-object actions and waits</a>");
+        } catch (IOException e) {
+            logger.warn("Failed to write step latency table: " + e.getMessage());
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("generated", System.currentTimeMillis());
+        document.put("steps", steps);
+        try {
+            Files.createDirectories(METRICS_FILE.getParent());
+            Files.writeString(METRICS_FILE, new Json().toJson(document), StandardCharsets.UTF_8);
+            logger.info("Step metrics written to " + METRICS_FILE);
+        } catch (IOException e) {
+            logger.warn("Failed to write step metrics: " + e.getMessage());
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    /**
+     * Page-object action being timed, recorded on close
+     * @param name Step name
+     * @param startNanos System.nanoTime() at the start of the action
+     */
+    public record Step(String name, long startNanos) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            record(name, System.nanoTime() - startNanos);
+        }
+    }
+}
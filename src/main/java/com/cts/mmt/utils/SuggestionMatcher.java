@@ -0,0 +1,151 @@
+package com.cts.mmt.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SuggestionMatcher - Fuzzy scoring of autosuggest entries against the wanted city
+ * The target is tokenized once; each suggestion is tokenized once and every target token is
+ * scored against its best suggestion token: exact 1.0, prefix 0.9, otherwise edit-distance
+ * similarity. The leading token weighs most, and a suggestion whose first comma-separated part
+ * is exactly the target's gets a bonus, so "Manali" ranks "Manali, Himachal Pradesh" above
+ * "Manali Bus Stand, Manali" while a typo like "Manli" still matches
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public final class SuggestionMatcher {
+
+    private static final double PREFIX_SCORE = 0.9;
+    private static final double FIRST_TOKEN_WEIGHT = 2.0;
+    private static final double EXTRA_TOKEN_PENALTY = 0.02;
+    private static final double HEAD_MATCH_BONUS = 0.05;
+
+    private final String target;
+    private final String[] targetTokens;
+    private final String targetHead;
+
+    /**
+     * Create a matcher for one wanted value
+     * @param target Wanted suggestion, e.g. "Manali" or "Manali, Himachal Pradesh"
+     */
+    public SuggestionMatcher(String target) {
+        this.target = target;
+        this.targetTokens = tokenize(target);
+        this.targetHead = headOf(target);
+    }
+
+    /**
+     * Find the best scoring suggestion
+     * @param suggestions Suggestion texts in display order
+     * @param minScore Lowest acceptable score
+     * @return Index of the best suggestion, earliest on ties, or -1 if none reaches minScore
+     */
+    public int bestOf(List<String> suggestions, double minScore) {
+        int best = -1;
+        double bestScore = minScore;
+        for (int i = 0; i < suggestions.size(); i++) {
+            // Uncapped, so two suggestions above 1 before the cap still rank apart
+            double score = rawScore(suggestions.get(i));
+            if (score > bestScore || (best < 0 && score == bestScore)) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Score one suggestion
+     * @param suggestion Suggestion text
+     * @return Score between 0 and 1
+     */
+    public double score(String suggestion) {
+        return Math.min(1, rawScore(suggestion));
+    }
+
+    private double rawScore(String suggestion) {
+        String[] tokens = tokenize(suggestion);
+        if (targetTokens.length == 0 || tokens.length == 0) {
+            return 0;
+        }
+        double total = 0;
+        double weights = 0;
+        for (int i = 0; i < targetTokens.length; i++) {
+            double weight = i == 0 ? FIRST_TOKEN_WEIGHT : 1;
+            double best = 0;
+            for (String token : tokens) {
+                best = Math.max(best, tokenScore(targetTokens[i], token));
+            }
+            total += best * weight;
+            weights += weight;
+        }
+        double extra = Math.max(0, tokens.length - targetTokens.length) * EXTRA_TOKEN_PENALTY;
+        double bonus = targetHead.equals(headOf(suggestion)) ? HEAD_MATCH_BONUS : 0;
+        return Math.max(0, total / weights - extra + bonus);
+    }
+
+    /**
+     * Get the first target token, the part that was typed into the input
+     * @return Lower-case prefix, empty if the target has no letters or digits
+     */
+    public String prefix() {
+        return targetTokens.length > 0 ? targetTokens[0] : "";
+    }
+
+    @Override
+    public String toString() {
+        return target;
+    }
+
+    private static double tokenScore(String wanted, String token) {
+        if (wanted.equals(token)) {
+            return 1;
+        }
+        if (token.startsWith(wanted) || (token.length() >= 3 && wanted.startsWith(token))) {
+            return PREFIX_SCORE;
+        }
+        int distance = editDistance(wanted, token);
+        return Math.max(0, 1 - (double) distance / Math.max(wanted.length(), token.length()));
+    }
+
+    private static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static String headOf(String text) {
+        if (text == null) {
+            return "";
+        }
+        int comma = text.indexOf(',');
+        return String.join(" ", tokenize(comma >= 0 ? text.substring(0, comma) : text));
+    }
+
+    static String[] tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text != null) {
+            for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+}
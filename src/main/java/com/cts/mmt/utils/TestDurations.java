@@ -0,0 +1,186 @@
+package com.cts.mmt.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * TestDurations - Per-test durations of previous runs
+ * The mean of the last shard.history.runs non-skipped runs in the {@link RunHistory} store wins;
+ * tests it does not know fall back to TestNG's testng-results.xml. Every file or directory listed
+ * in shard.results is read (directories are searched for testng-results*.xml, so the reports of
+ * all shards can be collected in one place) and a test seen several times gets its mean duration.
+ * Tests are keyed "fully.qualified.Class#method"
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class TestDurations {
+
+    private static final Logger logger = LogManager.getLogger(TestDurations.class);
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private TestDurations() {
+    }
+
+    /**
+     * Build the test key used by the shard planner
+     * @param className Fully qualified test class
+     * @param methodName Test method
+     * @return "Class#method"
+     */
+    public static String keyOf(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+
+    /**
+     * Load the durations from the run history and the locations configured in shard.results
+     * @return Test key to mean duration in milliseconds
+     */
+    public static Map<String, Long> load() {
+        ConfigReader config = ConfigReader.getInstance();
+        List<Path> files = new ArrayList<>();
+        for (String location : config.getShardResults().split(",")) {
+            if (!location.isBlank()) {
+                files.addAll(resultFiles(Paths.get(location.trim())));
+            }
+        }
+        Map<String, Long> durations = load(files);
+
+        RunHistory history = RunHistory.shared();
+        if (history != null) {
+            int fromHistory = 0;
+            for (String test : history.tests()) {
+                long[] recent = history.last(test, config.getShardHistoryRuns()).stream()
+                        .filter(run -> run.outcome() != RunHistory.Outcome.SKIP)
+                        .mapToLong(RunHistory.Run::durationMillis)
+                        .toArray();
+                if (recent.length > 0) {
+                    durations.put(test, LongStream.of(recent).sum() / recent.length);
+                    fromHistory++;
+                }
+            }
+            logger.info("Took durations of " + fromHistory + " tests from the run history");
+        }
+        return durations;
+    }
+
+    /**
+     * Load the durations from TestNG result files
+     * @param files testng-results.xml files
+     * @return Test key to mean duration in milliseconds
+     */
+    public static Map<String, Long> load(List<Path> files) {
+        Map<String, long[]> totals = new HashMap<>();   // key -> {sum, count}
+        for (Path file : files) {
+            try {
+                readInto(file, totals);
+            } catch (Exception e) {
+                logger.warn("Skipping unreadable TestNG results " + file + ": " + e.getMessage());
+            }
+        }
+        Map<String, Long> durations = new HashMap<>();
+        totals.forEach((key, total) -> durations.put(key, total[0] / total[1]));
+        logger.info("Loaded durations of " + durations.size() + " tests from " + files.size() + " result files");
+        return durations;
+    }
+
+    /**
+     * Read durations pinned in a file, so every machine plans from the same numbers
+     * @param file TSV of "Class#method" and milliseconds, as written by {@link #write}
+     * @return Test key to duration in milliseconds
+     * @throws RuntimeException if the file cannot be read - machines would otherwise plan different splits
+     */
+    public static Map<String, Long> read(Path file) {
+        Map<String, Long> durations = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    durations.put(line.substring(0, tab), Long.parseLong(line.substring(tab + 1).trim()));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new RuntimeException("Failed to read pinned test durations " + file + ": " + e.getMessage(), e);
+        }
+        logger.info("Loaded pinned durations of " + durations.size() + " tests from " + file);
+        return durations;
+    }
+
+    /**
+     * Pin durations to a file, sorted by test key
+     * @param file Target TSV file
+     * @param durations Test key to duration in milliseconds
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, Map<String, Long> durations) throws IOException {
+        List<String> lines = new ArrayList<>(durations.size());
+        new TreeMap<>(durations).forEach((key, millis) -> lines.add(key + "\t" + millis));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    private static List<Path> resultFiles(Path location) {
+        if (Files.isRegularFile(location)) {
+            return List.of(location);
+        }
+        if (!Files.isDirectory(location)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(location)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith("testng-results") && name.endsWith(".xml");
+                    })
+                    .toList();
+        } catch (IOException e) {
+            logger.warn("Failed to search " + location + " for TestNG results: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static void readInto(Path file, Map<String, long[]> totals) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document document = builder.parse(file.toFile());
+
+        NodeList classes = document.getElementsByTagName("class");
+        for (int i = 0; i < classes.getLength(); i++) {
+            Element testClass = (Element) classes.item(i);
+            String className = testClass.getAttribute("name");
+            for (Node child = testClass.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (!(child instanceof Element method) || !"test-method".equals(method.getTagName())
+                        || "true".equals(method.getAttribute("is-config"))
+                        || "SKIP".equals(method.getAttribute("status"))) {
+                    continue;
+                }
+                long millis = Long.parseLong(method.getAttribute("duration-ms"));
+                long[] total = totals.computeIfAbsent(keyOf(className, method.getAttribute("name")), key -> new long[2]);
+                total[0] += millis;
+                total[1]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.cts.mmt.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+/**
+ * TestLogBridge - Background writer for the log lines tests send to Log4j and the report
+ * The test thread only checks the level and puts the unformatted message on a lock-free queue;
+ * a single drain thread formats it ({} placeholders) and writes it to Log4j, keeping the caller's
+ * thread name and timestamp, and to the ExtentTest. Events are taken off the queue in batches of
+ * up to log.batch.size, and one drain thread keeps every test's lines in call order.
+ * Arguments are formatted later, so pass values that do not change after the call
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class TestLogBridge {
+
+    private static final Logger logger = LogManager.getLogger(TestLogBridge.class);
+
+    /**
+     * Kind of line, mapped to a Log4j level, a report status and a Log4j message prefix
+     */
+    public enum Kind {
+        INFO(Level.INFO, Status.INFO, ""),
+        PASS(Level.INFO, Status.PASS, "PASS: "),
+        FAIL(Level.ERROR, Status.FAIL, "FAIL: ");
+
+        private final Level level;
+        private final Status status;
+        private final String prefix;
+
+        Kind(Level level, Status status, String prefix) {
+            this.level = level;
+            this.status = status;
+            this.prefix = prefix;
+        }
+    }
+
+    private record Event(Logger logger, ExtentTest extentTest, Kind kind, String pattern, Object[] args,
+            long timeMillis, Thread thread) {
+    }
+
+    private static final Queue<Event> queue = new ConcurrentLinkedQueue<>();
+
+    // Events ever queued / written; a flush waits until written catches up with queued
+    private static final AtomicLong queued = new AtomicLong();
+    private static volatile long written;
+
+    // Metrics reported at the end of the suite
+    private static long batches;
+    private static int maxBatch;
+
+    private static volatile Thread drainer;
+    private static volatile boolean parked;
+    private static volatile boolean stopped;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private TestLogBridge() {
+    }
+
+    /**
+     * Log a line to Log4j and to the test's report entry
+     * @param logger Logger the line belongs to
+     * @param extentTest Report entry of the running test (may be null)
+     * @param kind Kind of line
+     * @param pattern Message, with {} placeholders when args are given
+     * @param args Placeholder values
+     */
+    public static void log(Logger logger, ExtentTest extentTest, Kind kind, String pattern, Object... args) {
+        if (extentTest == null && !logger.isEnabled(kind.level)) {
+            return;
+        }
+        if (stopped || !ConfigReader.getInstance().isLogAsync()) {
+            write(new Event(logger, extentTest, kind, pattern, args, System.currentTimeMillis(), Thread.currentThread()), true);
+            return;
+        }
+        // Counted before it is queued, so a flush also waits for events queued ahead of its own
+        queued.incrementAndGet();
+        queue.offer(new Event(logger, extentTest, kind, pattern, args, System.currentTimeMillis(), Thread.currentThread()));
+        if (stopped) {
+            // shutdown() may already have taken its last look at the queue
+            writeQueued();
+            return;
+        }
+        Thread thread = drainer;
+        if (thread == null) {
+            start();
+        } else if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Wait until every line logged so far has been written
+     * Call before logging to the report directly, so the test's lines stay in order
+     */
+    public static void flush() {
+        long target = queued.get();
+        Thread thread = drainer;
+        if (written >= target || thread == null || stopped) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ConfigReader.getInstance().getLogFlushTimeout());
+        while (written < target) {
+            if (System.nanoTime() > deadline) {
+                logger.warn("Log bridge did not flush in time, " + (target - written) + " lines pending");
+                return;
+            }
+            LockSupport.parkNanos(100_000L);
+        }
+    }
+
+    /**
+     * Write every queued line and stop the drain thread; later lines are written by the caller
+     * Must be called before the report is flushed
+     */
+    public static void shutdown() {
+        flush();
+        stopped = true;
+        Thread thread = drainer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(ConfigReader.getInstance().getLogFlushTimeout()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Lines queued while the drain thread was stopping
+        writeQueued();
+        logger.info("Log bridge drained: " + getSummary());
+    }
+
+    /**
+     * Get a one-line summary of bridge metrics for the report
+     * @return Summary of lines written, batches and largest batch
+     */
+    public static synchronized String getSummary() {
+        return written + " lines in " + batches + " batches, largest batch " + maxBatch;
+    }
+
+    private static synchronized void start() {
+        if (drainer != null || stopped) {
+            return;
+        }
+        Thread thread = new Thread(TestLogBridge::drain, "test-log-bridge");
+        thread.setDaemon(true);
+        thread.start();
+        drainer = thread;
+    }
+
+    private static void drain() {
+        Event[] batch = new Event[Math.max(1, ConfigReader.getInstance().getLogBatchSize())];
+        while (true) {
+            int size = 0;
+            Event event;
+            while (size < batch.length && (event = queue.poll()) != null) {
+                batch[size++] = event;
+            }
+            if (size == 0) {
+                if (stopped) {
+                    return;
+                }
+                parked = true;
+                // Re-check after publishing the flag, or a line queued in between would wait for the timeout
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+                }
+                parked = false;
+                continue;
+            }
+            for (int i = 0; i < size; i++) {
+                try {
+                    write(batch[i], i == size - 1);
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to write log line: " + e.getMessage());
+                }
+                batch[i] = null;
+            }
+            recordBatch(size);
+            written += size;
+        }
+    }
+
+    /**
+     * Write what is left on the queue from the calling thread, once the drain thread is stopping
+     */
+    private static synchronized void writeQueued() {
+        Event event;
+        while ((event = queue.poll()) != null) {
+            try {
+                write(event, true);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write log line: " + e.getMessage());
+            }
+        }
+    }
+
+    private static synchronized void recordBatch(int size) {
+        batches++;
+        maxBatch = Math.max(maxBatch, size);
+    }
+
+    private static void write(Event event, boolean endOfBatch) {
+        String message = event.args() == null || event.args().length == 0
+                ? event.pattern() : ParameterizedMessage.format(event.pattern(), event.args());
+        Kind kind = event.kind();
+        if (event.logger().isEnabled(kind.level)) {
+            toLog4j(event, kind.prefix + message, endOfBatch);
+        }
+        if (event.extentTest() != null) {
+            ExtentManager.log(event.extentTest(), kind.status, message);
+        }
+    }
+
+    /**
+     * Hand a formatted line to the logger's configuration as if it had been logged by the test thread
+     */
+    private static void toLog4j(Event event, String message, boolean endOfBatch) {
+        if (!(event.logger() instanceof org.apache.logging.log4j.core.Logger coreLogger)) {
+            event.logger().log(event.kind().level, message);
+            return;
+        }
+        coreLogger.get().log(Log4jLogEvent.newBuilder()
+                .setLoggerName(coreLogger.getName())
+                .setLoggerFqcn(TestLogBridge.class.getName())
+                .setLevel(event.kind().level)
+                .setMessage(new SimpleMessage(message))
+                .setTimeMillis(event.timeMillis())
+                .setThreadName(event.thread().getName())
+                .setThreadId(event.thread().threadId())
+                .setThreadPriority(event.thread().getPriority())
+                .setEndOfBatch(endOfBatch)
+                .build());
+    }
+}
@@ -7,6 +7,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.cts.mmt.base.BaseTest;
+import com.cts.mmt.base.CommandBudget;
 import com.cts.mmt.pages.CabsPage;
 import com.cts.mmt.pages.HomePage;
 import com.cts.mmt.pages.HotelsPage;
@@ -46,6 +47,7 @@ public class HotelPageTest extends BaseTest {
      * 6. Store in a List
      * 7. Display the list
      */
+    @CommandBudget(maxCommands = 20)
     public void testExtractAdultPersonNumbers() {
         createTest("Hotel - Extract Adult Numbers", 
                    "Extract all adult person numbers from dropdown and store in List");
@@ -0,0 +1,97 @@
+package com.cts.mmt.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.cts.mmt.utils.PriceParser.Price;
+
+/**
+ * PriceParserTest - Unit tests for fare parsing, no browser needed
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class PriceParserTest {
+
+    @Test
+    public void testRupeeSymbol() {
+        Price price = PriceParser.parse("₹ 12,499");
+        Assert.assertEquals(price.currency(), "INR");
+        Assert.assertEquals(price.amount(), 1_249_900L);
+        Assert.assertFalse(price.isDiscounted());
+    }
+
+    @Test
+    public void testRsPrefix() {
+        Price price = PriceParser.parse("Rs. 2,000");
+        Assert.assertEquals(price.currency(), "INR");
+        Assert.assertEquals(price.amount(), 200_000L);
+    }
+
+    @Test
+    public void testLakhGroupingWithDecimals() {
+        Price price = PriceParser.parse("Rs. 1,23,456.50");
+        Assert.assertEquals(price.amount(), 12_345_650L);
+        Assert.assertEquals(price.toString(), "INR 123,456.50");
+    }
+
+    @Test
+    public void testSingleDecimalDigit() {
+        Assert.assertEquals(PriceParser.parse("₹ 99.5").amount(), 9_950L);
+    }
+
+    @Test
+    public void testOnlyFirstAmountIsTheFare() {
+        Assert.assertEquals(PriceParser.parse("₹ 2,499 (20% off)").amount(), 249_900L);
+        Assert.assertEquals(PriceParser.parse("₹ 1,999 + ₹ 350 taxes").amount(), 199_900L);
+    }
+
+    @Test
+    public void testStrikeThroughNestedInFare() {
+        Price price = PriceParser.parse("₹ 13,999 ₹ 12,499", "₹ 13,999");
+        Assert.assertEquals(price.amount(), 1_249_900L);
+        Assert.assertEquals(price.originalAmount(), 1_399_900L);
+        Assert.assertTrue(price.isDiscounted());
+    }
+
+    @Test
+    public void testStrikeThroughMissing() {
+        Price price = PriceParser.parse("₹ 12,499", null);
+        Assert.assertEquals(price.originalAmount(), price.amount());
+        Assert.assertFalse(PriceParser.parse("₹ 12,499", "").isDiscounted());
+    }
+
+    @Test
+    public void testCurrencyCodes() {
+        Price usd = PriceParser.parse("USD 12");
+        Assert.assertEquals(usd.currency(), "USD");
+        Assert.assertEquals(usd.amount(), 1_200L);
+        Assert.assertEquals(PriceParser.parse("INR 450").currency(), "INR");
+        Assert.assertEquals(PriceParser.parse("€ 30").currency(), "EUR");
+    }
+
+    @Test
+    public void testNoAmount() {
+        Assert.assertNull(PriceParser.parse("Sold out"));
+        Assert.assertNull(PriceParser.parse(null));
+    }
+
+    @Test
+    public void testDefaultCurrency() {
+        Assert.assertEquals(PriceParser.parse("12,499").currency(), PriceParser.DEFAULT_CURRENCY);
+    }
+
+    @Test
+    public void testCompareToGroupsByCurrency() {
+        List<Price> prices = new ArrayList<>(List.of(
+                PriceParser.parse("USD 12"), PriceParser.parse("₹ 900"), PriceParser.parse("₹ 500")));
+        Collections.sort(prices);
+        Assert.assertEquals(prices.get(0).toString(), "INR 500");
+        Assert.assertEquals(prices.get(1).toString(), "INR 900");
+        Assert.assertEquals(prices.get(2).toString(), "USD 12");
+    }
+}
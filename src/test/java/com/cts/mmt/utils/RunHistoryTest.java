@@ -0,0 +1,143 @@
+package com.cts.mmt.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.cts.mmt.utils.RunHistory.Outcome;
+import com.cts.mmt.utils.RunHistory.Run;
+
+/**
+ * RunHistoryTest - Unit tests for the binary run history store, no browser needed
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class RunHistoryTest {
+
+    private static final String LOGIN = "com.cts.mmt.tests.LoginTest#testLogin";
+    private static final String CABS = "com.cts.mmt.tests.CabBookingTest#testBookCab";
+
+    private Path dir;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("run-history");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Run run = new Run(LOGIN, 1_000L, Outcome.FAIL, 4_200, 2, 850, Map.of("LoginPage.login", 1_300));
+        try (RunHistory history = RunHistory.open(dir)) {
+            history.append(run);
+        }
+        try (RunHistory history = RunHistory.open(dir)) {
+            Assert.assertEquals(history.last(LOGIN, 5), List.of(run));
+            Assert.assertEquals(history.tests(), Set.of(LOGIN));
+        }
+    }
+
+    @Test
+    public void testLastIsNewestFirstAndLimited() throws IOException {
+        try (RunHistory history = RunHistory.open(dir)) {
+            for (int i = 1; i <= 5; i++) {
+                history.append(run(LOGIN, i));
+                history.append(run(CABS, 100 + i));
+            }
+            Assert.assertEquals(timestamps(history.last(LOGIN, 3)), List.of(5L, 4L, 3L));
+            Assert.assertEquals(timestamps(history.last(CABS, 10)), List.of(105L, 104L, 103L, 102L, 101L));
+            Assert.assertTrue(history.last("unknown#test", 3).isEmpty());
+        }
+    }
+
+    @Test
+    public void testTornTailIsTruncated() throws IOException {
+        try (RunHistory history = RunHistory.open(dir)) {
+            history.append(run(LOGIN, 1));
+            history.append(run(LOGIN, 2));
+        }
+        Path runs = dir.resolve("runs.dat");
+        long complete = Files.size(runs);
+        try (FileChannel channel = FileChannel.open(runs, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            // Length of a full record, but only part of its body
+            channel.write(ByteBuffer.allocate(12).putInt(0, 64));
+        }
+
+        try (RunHistory history = RunHistory.open(dir)) {
+            Assert.assertEquals(Files.size(runs), complete);
+            Assert.assertEquals(timestamps(history.last(LOGIN, 5)), List.of(2L, 1L));
+            history.append(run(LOGIN, 3));
+        }
+        try (RunHistory history = RunHistory.open(dir)) {
+            Assert.assertEquals(timestamps(history.last(LOGIN, 5)), List.of(3L, 2L, 1L));
+        }
+    }
+
+    @Test
+    public void testMissingIndexIsRebuilt() throws IOException {
+        try (RunHistory history = RunHistory.open(dir)) {
+            history.append(run(LOGIN, 1));
+            history.append(run(CABS, 2));
+            history.append(run(LOGIN, 3));
+        }
+        Files.delete(dir.resolve("runs.idx"));
+
+        try (RunHistory history = RunHistory.open(dir)) {
+            Assert.assertEquals(timestamps(history.last(LOGIN, 5)), List.of(3L, 1L));
+            Assert.assertEquals(timestamps(history.last(CABS, 5)), List.of(2L));
+        }
+    }
+
+    @Test
+    public void testStaleIndexCatchesUp() throws IOException {
+        try (RunHistory history = RunHistory.open(dir)) {
+            history.append(run(LOGIN, 1));
+        }
+        Path index = dir.resolve("runs.idx");
+        byte[] stale = Files.readAllBytes(index);
+        try (RunHistory history = RunHistory.open(dir)) {
+            history.append(run(LOGIN, 2));
+        }
+        // Index of the first run only, as if the writer died before the index reached disk
+        Files.write(index, stale);
+
+        try (RunHistory history = RunHistory.open(dir)) {
+            Assert.assertEquals(timestamps(history.last(LOGIN, 5)), List.of(2L, 1L));
+        }
+    }
+
+    private static Run run(String test, long timestamp) {
+        return new Run(test, timestamp, Outcome.PASS, (int) timestamp * 10, 0, -1, Map.of());
+    }
+
+    private static List<Long> timestamps(List<Run> runs) {
+        List<Long> timestamps = new ArrayList<>();
+        for (Run run : runs) {
+            timestamps.add(run.timestamp());
+        }
+        return timestamps;
+    }
+}
@@ -0,0 +1,81 @@
+package com.cts.mmt.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.cts.mmt.utils.ShardPlanner.Shard;
+
+/**
+ * ShardPlannerTest - Unit tests for the duration-balanced shard split, no browser needed
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class ShardPlannerTest {
+
+    @Test
+    public void testLongestTestsAreAssignedFirst() {
+        Map<String, Long> durations = Map.of("T#a", 100L, "T#b", 80L, "T#c", 60L, "T#d", 40L, "T#e", 20L);
+        List<Shard> plan = ShardPlanner.plan(durations.keySet(), durations, 2);
+
+        // a -> 1, b -> 2, c -> 2 (80 < 100), d -> 1 (100 < 140), e -> 1 (140 = 140, lower shard wins)
+        Assert.assertEquals(plan.get(0).tests(), List.of("T#a", "T#d", "T#e"));
+        Assert.assertEquals(plan.get(0).estimatedMillis(), 160L);
+        Assert.assertEquals(plan.get(1).tests(), List.of("T#b", "T#c"));
+        Assert.assertEquals(plan.get(1).estimatedMillis(), 140L);
+    }
+
+    @Test
+    public void testUnknownTestsCountAsMedian() {
+        Map<String, Long> durations = Map.of("T#a", 100L, "T#b", 300L, "T#c", 200L);
+        List<Shard> plan = ShardPlanner.plan(List.of("T#a", "T#b", "T#c", "T#x"), durations, 1);
+
+        Assert.assertEquals(plan.get(0).estimatedMillis(), 800L);
+        // x is estimated at 200 like c and sorts after it by name
+        Assert.assertEquals(plan.get(0).tests(), List.of("T#b", "T#c", "T#x", "T#a"));
+    }
+
+    @Test
+    public void testMoreShardsThanTests() {
+        Map<String, Long> durations = Map.of("T#a", 100L, "T#b", 50L);
+        List<Shard> plan = ShardPlanner.plan(durations.keySet(), durations, 4);
+
+        Assert.assertEquals(plan.size(), 4);
+        Assert.assertEquals(plan.get(0).tests(), List.of("T#a"));
+        Assert.assertEquals(plan.get(1).tests(), List.of("T#b"));
+        for (Shard shard : plan.subList(2, 4)) {
+            Assert.assertTrue(shard.tests().isEmpty());
+            Assert.assertEquals(shard.estimatedMillis(), 0L);
+            Assert.assertEquals(shard.of(), 4);
+        }
+    }
+
+    @Test
+    public void testPlanDoesNotDependOnInputOrder() {
+        Map<String, Long> durations = Map.of("T#a", 30L, "T#b", 30L, "T#c", 10L, "T#d", 50L);
+        List<String> tests = new ArrayList<>(List.of("T#a", "T#b", "T#c", "T#d"));
+        List<Shard> plan = ShardPlanner.plan(tests, durations, 3);
+        Collections.reverse(tests);
+        Assert.assertEquals(ShardPlanner.plan(tests, durations, 3), plan);
+    }
+
+    @Test
+    public void testParseSelector() {
+        Assert.assertEquals(ShardPlanner.parseSelector(" 2/4 "), new int[] {2, 4});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testSelectorOutOfRange() {
+        ShardPlanner.parseSelector("5/4");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testZeroShards() {
+        ShardPlanner.plan(List.of("T#a"), Map.of("T#a", 1L), 0);
+    }
+}
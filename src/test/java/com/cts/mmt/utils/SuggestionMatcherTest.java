@@ -0,0 +1,64 @@
+package com.cts.mmt.utils;
+
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * SuggestionMatcherTest - Unit tests for autosuggest scoring, no browser needed
+ *
+ * @author CTS Automation Team
+ * @version 1.0
+ */
+public class SuggestionMatcherTest {
+
+    private static final double MIN_SCORE = 0.6;
+
+    private final SuggestionMatcher manali = new SuggestionMatcher("Manali");
+
+    @Test
+    public void testCityRanksAboveBusStand() {
+        Assert.assertTrue(manali.score("Manali, Himachal Pradesh") > manali.score("Manali Bus Stand, Manali"));
+        int best = manali.bestOf(List.of("Manali Bus Stand, Manali", "Manali, Himachal Pradesh"), MIN_SCORE);
+        Assert.assertEquals(best, 1);
+    }
+
+    @Test
+    public void testTypoStillMatches() {
+        SuggestionMatcher typo = new SuggestionMatcher("Manli");
+        Assert.assertTrue(typo.score("Manali, Himachal Pradesh") >= MIN_SCORE);
+        int best = typo.bestOf(List.of("Mandi, Himachal Pradesh", "Manali Bus Stand, Manali", "Manali, Himachal Pradesh"), MIN_SCORE);
+        Assert.assertEquals(best, 2);
+    }
+
+    @Test
+    public void testUnrelatedCityIsRejected() {
+        Assert.assertTrue(manali.score("Delhi") < MIN_SCORE);
+        Assert.assertEquals(manali.bestOf(List.of("Delhi", "Mumbai"), MIN_SCORE), -1);
+    }
+
+    @Test
+    public void testScoreIsCappedAtOne() {
+        Assert.assertEquals(manali.score("Manali, Himachal Pradesh"), 1.0);
+        Assert.assertEquals(manali.score("Manali, HP"), 1.0);
+    }
+
+    @Test
+    public void testCappedScoresStillRankApart() {
+        // Both score 1 after the cap; the one with fewer extra words is the closer match
+        int best = manali.bestOf(List.of("Manali, Himachal Pradesh", "Manali, HP"), MIN_SCORE);
+        Assert.assertEquals(best, 1);
+    }
+
+    @Test
+    public void testEqualScoresPickEarliest() {
+        Assert.assertEquals(manali.bestOf(List.of("Manali, Kullu", "Manali, Mandi"), MIN_SCORE), 0);
+    }
+
+    @Test
+    public void testPrefixIsFirstToken() {
+        Assert.assertEquals(new SuggestionMatcher("Manali, Himachal Pradesh").prefix(), "manali");
+        Assert.assertEquals(new SuggestionMatcher("  ").prefix(), "");
+    }
+}
@@ -0,0 +1,59 @@
+// Minimal behaviour for the snapshot pages: autosuggest, cab search and gift-card validation
+// through the same XHR endpoints the live pages use, answered by the fixture server
+(function () {
+    var list = document.querySelector('.react-autosuggest__suggestions-list');
+    document.querySelectorAll('input[data-suggest]').forEach(function (input) {
+        input.addEventListener('input', function () {
+            fetch(input.dataset.suggest + '?q=' + encodeURIComponent(input.value))
+                .then(function (response) { return response.json(); })
+                .then(function (data) {
+                    list.innerHTML = '';
+                    data.suggestions.forEach(function (suggestion) {
+                        var item = document.createElement('li');
+                        item.setAttribute('role', 'option');
+                        item.innerHTML = '<p>' + suggestion.name + '</p><p class="subText">' + suggestion.subText + '</p>';
+                        item.addEventListener('click', function () {
+                            input.value = suggestion.name;
+                            list.innerHTML = '';
+                        });
+                        list.appendChild(item);
+                    });
+                });
+        });
+    });
+
+    var search = document.querySelector('[data-search]');
+    if (search) {
+        search.addEventListener('click', function (event) {
+            event.preventDefault();
+            fetch(search.dataset.search + '?from=' + encodeURIComponent(document.getElementById('fromCity').value)
+                    + '&to=' + encodeURIComponent(document.getElementById('toCity').value))
+                .then(function (response) { return response.json(); })
+                .then(function (data) {
+                    var results = document.getElementById('cabResults');
+                    results.innerHTML = '<ul class="cabFilters"><li><label><input type="checkbox" value="SUV">SUV</label></li></ul>';
+                    data.cabs.forEach(function (cab) {
+                        results.insertAdjacentHTML('beforeend', '<div class="cabListingItem" data-type="' + cab.type + '">'
+                            + '<p class="cabName">' + cab.name + '</p><p class="cabType">' + cab.type + '</p>'
+                            + '<p class="cabPrice">' + (cab.originalPrice ? '<del>' + cab.originalPrice + '</del> ' : '') + cab.price + '</p>'
+                            + '<ul class="cabInclusions">' + (cab.inclusions || []).map(function (inclusion) {
+                                return '<li>' + inclusion + '</li>';
+                            }).join('') + '</ul></div>');
+                    });
+                });
+        });
+    }
+
+    var form = document.querySelector('form[data-validate]');
+    if (form) {
+        form.querySelector('.prime-btn').addEventListener('click', function () {
+            fetch(form.dataset.validate, { method: 'POST', body: new FormData(form) })
+                .then(function (response) { return response.json(); })
+                .then(function (data) {
+                    var error = form.querySelector('.red-text');
+                    error.textContent = data.valid ? '' : data.message;
+                    error.hidden = data.valid;
+                });
+        });
+    }
+})();